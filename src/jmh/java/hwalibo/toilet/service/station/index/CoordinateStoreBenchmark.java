@@ -0,0 +1,79 @@
+package hwalibo.toilet.service.station.index;
+
+import hwalibo.toilet.utils.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌표 거리 계산 비교
+ * - scalar: CoordinateStore 스칼라 루프
+ * - vector: VectorDistanceKernel (jdk.incubator.vector)
+ * - sqlFormula: ToiletQueryRepository가 MySQL에서 행마다 계산하는 acos(구면 코사인 법칙) 식을 같은 배열로 계산
+ *   (DB 왕복/스캔 비용은 빠진 계산 비용만의 하한)
+ * - size: 격자 한 칸(수 개~수십 개)부터 전체 화장실 수(약 600개)까지
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoordinateStoreBenchmark {
+
+    @Param({"8", "64", "605"})
+    int size;
+
+    private CoordinateStore store;
+    private double[] out;
+    private double lat0;
+    private double lng0;
+    private double cos0;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        store = new CoordinateStore(size);
+        for (int i = 0; i < size; i++) {
+            // 서울 지하철 범위
+            store.set(i, 37.40 + random.nextDouble() * 0.30, 126.80 + random.nextDouble() * 0.40);
+        }
+        out = new double[size];
+        lat0 = 37.5665;
+        lng0 = 126.9780;
+        cos0 = Math.cos(Math.toRadians(lat0));
+    }
+
+    @Benchmark
+    public double[] scalar() {
+        store.distancesToScalar(lat0, lng0, cos0, 0, size, out, 0);
+        return out;
+    }
+
+    @Benchmark
+    public double[] vector() {
+        VectorDistanceKernel.distancesTo(store, lat0, lng0, cos0, 0, size, out);
+        return out;
+    }
+
+    @Benchmark
+    public void sqlFormula(Blackhole blackhole) {
+        double latRad0 = Math.toRadians(lat0);
+        double lngRad0 = Math.toRadians(lng0);
+        for (int i = 0; i < size; i++) {
+            double latRad = Math.toRadians(store.lat[i]);
+            double d = GeoUtils.EARTH_RADIUS_METERS * Math.acos(
+                    Math.cos(latRad0) * Math.cos(latRad) * Math.cos(Math.toRadians(store.lng[i]) - lngRad0)
+                            + Math.sin(latRad0) * Math.sin(latRad));
+            blackhole.consume(d);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package hwalibo.toilet.service.station.search;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import hwalibo.toilet.utils.HangulUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오타 허용 역 이름 검색 비교
+ * - bkTree: StationFuzzyIndex.search (BK-tree, [d - k, d + k] 자식만 탐색)
+ * - linearScan: 같은 자모 분해 이름 전체를 전체 행렬 편집 거리로 하나씩 비교
+ * - 이름은 실제 카탈로그(data/toilet_preprocessed.csv), 질의는 역 이름에 자모 편집 거리 1/2인 오타를 낸 것
+ *   (각 거리를 허용하는 길이의 이름만: 거리 1은 자모 4개 이상, 거리 2는 7개 이상)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StationFuzzyIndexBenchmark {
+
+    @Param({"1", "2"})
+    int typoDistance;
+
+    private StationFuzzyIndex index;
+    private String[] names;
+    private String[] nameJamo;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> loaded = loadStationNames();
+        names = loaded.toArray(String[]::new);
+        nameJamo = loaded.stream().map(StationFuzzyIndexBenchmark::toJamo).toArray(String[]::new);
+
+        index = new StationFuzzyIndex();
+        index.onCatalogRebuilt(new ToiletCatalogRebuiltEvent(loaded.stream()
+                .map(name -> IndexedToilet.from(Toilet.builder()
+                        .name(name)
+                        .line(1)
+                        .latitude(37.5)
+                        .longitude(127.0)
+                        .numGate(1)
+                        .build()))
+                .toList()));
+
+        List<String> built = new ArrayList<>();
+        for (String name : loaded) {
+            if (!name.chars().allMatch(c -> HangulUtils.isSyllable((char) c))) continue;
+            String jamo = toJamo(name);
+            // 오타를 허용하는 길이만 (거리 1은 자모 4개 이상, 거리 2는 7개 이상)
+            if (jamo.length() < (typoDistance == 2 ? 7 : 4)) continue;
+
+            String typo = typo(name, typoDistance);
+            if (levenshtein(toJamo(typo), jamo) == typoDistance) built.add(typo);
+        }
+        queries = built.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<StationFuzzyIndex.FuzzyMatch> bkTree() {
+        return index.search(nextQuery());
+    }
+
+    @Benchmark
+    public List<StationFuzzyIndex.FuzzyMatch> linearScan() {
+        String query = toJamo(nextQuery());
+        int maxDistance = query.length() <= 3 ? 0 : query.length() <= 6 ? 1 : 2;
+
+        List<StationFuzzyIndex.FuzzyMatch> result = new ArrayList<>();
+        if (maxDistance == 0) return result;
+        for (int i = 0; i < names.length; i++) {
+            int d = levenshtein(query, nameJamo[i]);
+            if (d <= maxDistance) result.add(new StationFuzzyIndex.FuzzyMatch(names[i], d));
+        }
+        return result;
+    }
+
+    private String nextQuery() {
+        String query = queries[next];
+        next = (next + 1) % queries.length;
+        return query;
+    }
+
+    private static String toJamo(String s) {
+        return HangulUtils.toJamo(StationSearchEngine.normalize(s));
+    }
+
+    // 첫 글자의 중성을 바꾸고(거리 1), 2이면 마지막 글자의 초성도 바꿈
+    private static String typo(String name, int distance) {
+        char[] chars = name.toCharArray();
+        int vowel = ((chars[0] - 0xAC00) / 28) % 21;
+        chars[0] = (char) (chars[0] + ((vowel + 1) % 21 - vowel) * 28);
+        if (distance == 2) {
+            int last = chars.length - 1;
+            int initial = (chars[last] - 0xAC00) / (21 * 28);
+            chars[last] = (char) (chars[last] + ((initial + 1) % 19 - initial) * 21 * 28);
+        }
+        return new String(chars);
+    }
+
+    // 전체 행렬을 채우는 편집 거리 (단순 비교 기준)
+    private static int levenshtein(String a, String b) {
+        int[][] dp = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) dp[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) dp[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
+            }
+        }
+        return dp[a.length()][b.length()];
+    }
+
+    private static List<String> loadStationNames() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(StationFuzzyIndexBenchmark.class.getResourceAsStream("/data/toilet_preprocessed.csv")),
+                StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .skip(1)
+                    .map(line -> line.split(",")[0].trim())
+                    .filter(name -> !name.isEmpty())
+                    .distinct()
+                    .toList();
+        }
+    }
+}
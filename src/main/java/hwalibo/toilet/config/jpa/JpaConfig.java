@@ -0,0 +1,16 @@
+package hwalibo.toilet.config.jpa;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // 요청별 SQL 수 측정을 위해 StatementInspector 등록
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+}
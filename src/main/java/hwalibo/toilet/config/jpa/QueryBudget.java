@@ -0,0 +1,16 @@
+package hwalibo.toilet.config.jpa;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 한 번 호출에 허용하는 SQL 수
+ * - 초과하면 QueryBudgetInterceptor가 경고 로그를 남김 (N+1 회귀 감지용)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
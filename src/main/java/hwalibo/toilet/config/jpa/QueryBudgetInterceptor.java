@@ -0,0 +1,40 @@
+package hwalibo.toilet.config.jpa;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * @QueryBudget이 붙은 요청의 SQL 수를 세서 허용치를 넘으면 경고
+ */
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (budgetOf(handler) != null) {
+            QueryCountInspector.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryBudget budget = budgetOf(handler);
+        if (budget == null) return;
+
+        int executed = QueryCountInspector.stop();
+        if (executed > budget.value()) {
+            log.warn("⚠️ SQL 실행 수 초과: {} {} → {}회 (허용 {}회)",
+                    request.getMethod(), request.getRequestURI(), executed, budget.value());
+        }
+    }
+
+    private QueryBudget budgetOf(Object handler) {
+        return handler instanceof HandlerMethod method ? method.getMethodAnnotation(QueryBudget.class) : null;
+    }
+}
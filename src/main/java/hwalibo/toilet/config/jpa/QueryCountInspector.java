@@ -0,0 +1,29 @@
+package hwalibo.toilet.config.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 스레드(요청) 단위로 세는 StatementInspector
+ * - start()를 호출한 스레드에서만 세고, stop()에서 센 값을 돌려주고 초기화
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) counter[0]++;
+        return sql;
+    }
+}
@@ -6,6 +6,7 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 public class S3Config {
@@ -22,4 +23,18 @@ public class S3Config {
               .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
               .build();
   }
+
+  // 클라이언트가 S3로 직접 올릴 수 있는 presigned URL 발급용 (서명만 하므로 네트워크 호출 없음)
+  @Bean
+    public S3Presigner s3Presigner(){
+      AwsBasicCredentials awsCreds=AwsBasicCredentials.create(
+              System.getenv("AWS_ACCESS_KEY_ID"),
+              System.getenv("AWS_SECRET_ACCESS_KEY")
+      );
+
+      return S3Presigner.builder()
+              .region(Region.AP_NORTHEAST_2)
+              .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+              .build();
+  }
 }
\ No newline at end of file
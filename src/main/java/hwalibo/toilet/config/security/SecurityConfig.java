@@ -6,6 +6,7 @@ import hwalibo.toilet.auth.jwt.JwtAuthenticationFilter;
 import hwalibo.toilet.auth.jwt.JwtTokenProvider;
 import hwalibo.toilet.auth.service.CustomOAuth2UserService;
 import hwalibo.toilet.dto.global.response.ApiResponse;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -72,6 +73,8 @@ public class SecurityConfig {
                 .anonymous(withDefaults())
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(StreamingResponseBody)의 비동기 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/", "/index.html", "/auth/callback.html",
                                 "/auth/refresh", "/redis/ping").permitAll()
@@ -1,5 +1,6 @@
 package hwalibo.toilet.controller.review;
 
+import hwalibo.toilet.config.jpa.QueryBudget;
 import hwalibo.toilet.domain.type.SortType;
 import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.dto.global.response.ApiResponse;
@@ -7,14 +8,23 @@ import hwalibo.toilet.dto.review.photo.response.PhotoReviewDetailResponse;
 import hwalibo.toilet.dto.review.photo.response.PhotoReviewListResponse;
 import hwalibo.toilet.dto.review.response.ReviewListResponse;
 import hwalibo.toilet.service.review.ReviewGetService;
+import hwalibo.toilet.service.review.export.ReviewExportService;
+import hwalibo.toilet.service.toilet.version.ToiletVersionTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,24 +32,70 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Review - Get")
 public class ReviewGetController {
     private final ReviewGetService reviewGetService;
+    private final ToiletVersionTracker toiletVersionTracker;
+    private final ReviewExportService reviewExportService;
 
     @GetMapping("/{toiletId}/reviews")
-    @Operation(summary="특정 화장실 리뷰 목록 조회",security = { @SecurityRequirement(name = "bearerAuth") })
+    @QueryBudget(4) // 캐시 미스 시: 화장실 1(인덱스에 없을 때만) + 리뷰 id 1 + 리뷰/작성자(태그 마스크 포함) 1 + 이미지 1
+    @Operation(summary="특정 화장실 리뷰 목록 조회 (tags를 주면 해당 태그를 모두 가진 리뷰만)",security = { @SecurityRequirement(name = "bearerAuth") })
     public ResponseEntity<ApiResponse<ReviewListResponse>> getReviewList(@AuthenticationPrincipal User loginUser,
                                                                          @PathVariable Long toiletId,
-                                                                         @RequestParam(value = "sort", defaultValue = "LATEST") SortType sortType){
-        ReviewListResponse data= reviewGetService.getReviewList(loginUser,toiletId,sortType);
-        return ResponseEntity.ok(new ApiResponse<ReviewListResponse>(true,200,"리뷰 목록 조회 성공",data));
+                                                                         @RequestParam(value = "sort", defaultValue = "LATEST") SortType sortType,
+                                                                         @RequestParam(required = false) List<hwalibo.toilet.domain.type.Tag> tags,
+                                                                         @RequestParam(required = false) String nextCursor,
+                                                                         @RequestParam(defaultValue = "20") int size,
+                                                                         WebRequest webRequest){
+        // 사진 노출 여부가 조회자 성별에 따라 달라지므로 성별을 ETag에 포함
+        String etag = loginUser != null ? toiletVersionTracker.etag(toiletId, loginUser.getGender()) : null;
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ReviewListResponse data= reviewGetService.getReviewList(loginUser,toiletId,sortType,tags,nextCursor,size);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse<ReviewListResponse>(true,200,"리뷰 목록 조회 성공",data));
+    }
+
+    @GetMapping("/{toiletId}/reviews/search")
+    @QueryBudget(4) // 화장실 1(인덱스에 없을 때만) + 검색 id 1 + 리뷰/작성자 1 + 이미지 1
+    @Operation(summary="특정 화장실 리뷰 본문 검색 (최신순)",security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<ApiResponse<ReviewListResponse>> searchReviews(@AuthenticationPrincipal User loginUser,
+                                                                         @PathVariable Long toiletId,
+                                                                         @RequestParam String q,
+                                                                         @RequestParam(required = false) String nextCursor,
+                                                                         @RequestParam(defaultValue = "20") int size){
+        ReviewListResponse data= reviewGetService.searchReviews(loginUser,toiletId,q,nextCursor,size);
+        return ResponseEntity.ok(new ApiResponse<ReviewListResponse>(true,200,"리뷰 검색 성공",data));
+    }
+
+    @GetMapping("/{toiletId}/reviews/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary="특정 화장실 리뷰 전체 내보내기 (관리자, JSON 스트리밍)",security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<StreamingResponseBody> exportReviews(@PathVariable Long toiletId) {
+        StreamingResponseBody body = reviewExportService.exportToiletReviews(toiletId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping("/{toiletId}/photos")
+    @QueryBudget(1)
     @Operation(summary="특정 화장실 포토 리뷰 목록 조회",security = { @SecurityRequirement(name = "bearerAuth") })
     public ResponseEntity<ApiResponse<PhotoReviewListResponse>> getPhotoReviewList(@AuthenticationPrincipal User loginUser,
                                                                                    @PathVariable Long toiletId,
                                                                                    @RequestParam(required = false)String nextCursor,
-                                                                                   @RequestParam(defaultValue = "24") int size) {
+                                                                                   @RequestParam(defaultValue = "24") int size,
+                                                                                   WebRequest webRequest) {
+        String etag = loginUser != null ? toiletVersionTracker.etag(toiletId, loginUser.getGender()) : null;
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         PhotoReviewListResponse data = reviewGetService.getPhotoReviewList(loginUser,toiletId,nextCursor,size);
-        return ResponseEntity.ok(new ApiResponse<PhotoReviewListResponse>(true, HttpStatus.OK.value(),"포토 리뷰 목록을 성공적으로 조회했습니다.",data ));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse<PhotoReviewListResponse>(true, HttpStatus.OK.value(),"포토 리뷰 목록을 성공적으로 조회했습니다.",data ));
     }
 
     @GetMapping("/{toiletId}/photos/{photoId}")
@@ -3,10 +3,14 @@ package hwalibo.toilet.controller.review;
 
 import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.dto.global.response.ApiResponse;
+import hwalibo.toilet.dto.review.photo.request.PhotoConfirmRequest;
+import hwalibo.toilet.dto.review.photo.request.PhotoPresignRequest;
+import hwalibo.toilet.dto.review.photo.response.PhotoPresignResponse;
 import hwalibo.toilet.dto.review.photo.response.PhotoUploadResponse;
 import hwalibo.toilet.dto.review.request.ReviewCreateRequest;
 import hwalibo.toilet.dto.review.response.ReviewCreateResponse;
 import hwalibo.toilet.service.review.ReviewPostService;
+import hwalibo.toilet.service.review.upload.ReviewPhotoDirectUploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -31,6 +35,7 @@ import java.util.List;
 public class ReviewPostController {
 
     private final ReviewPostService reviewPostService;
+    private final ReviewPhotoDirectUploadService reviewPhotoDirectUploadService;
 
     @Operation(
             summary = "리뷰 업로드",
@@ -75,5 +80,41 @@ public class ReviewPostController {
                         data
                 ));
     }
-}
 
+    @Operation(
+            summary = "리뷰 이미지 직접 업로드 URL 발급",
+            description = "S3로 직접 PUT할 수 있는 presigned URL 발급 (파일별 Content-Type/크기 지정, 작성자만 가능)",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/{reviewId}/photos/presigned")
+    public ResponseEntity<ApiResponse<PhotoPresignResponse>> issuePresignedUpload(
+            @AuthenticationPrincipal User loginUser,
+            @PathVariable Long reviewId,
+            @Valid @RequestBody PhotoPresignRequest request
+    ) {
+        PhotoPresignResponse data = reviewPhotoDirectUploadService.issue(loginUser, reviewId, request);
+        return ResponseEntity.ok(new ApiResponse<>(true, 200, "업로드 URL 발급 성공", data));
+    }
+
+    @Operation(
+            summary = "리뷰 이미지 직접 업로드 완료 확인",
+            description = "presigned URL로 올린 이미지를 확인하고 리뷰 이미지로 등록 (검수는 비동기)",
+            security = { @SecurityRequirement(name = "bearerAuth") }
+    )
+    @PostMapping("/{reviewId}/photos/confirm")
+    public ResponseEntity<ApiResponse<PhotoUploadResponse>> confirmPresignedUpload(
+            @AuthenticationPrincipal User loginUser,
+            @PathVariable Long reviewId,
+            @Valid @RequestBody PhotoConfirmRequest request
+    ) {
+        PhotoUploadResponse data = reviewPhotoDirectUploadService.confirm(loginUser, reviewId, request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(new ApiResponse<>(
+                        true,
+                        HttpStatus.CREATED.value(),
+                        "이미지 업로드 성공",
+                        data
+                ));
+    }
+}
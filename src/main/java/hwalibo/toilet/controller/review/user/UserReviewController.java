@@ -1,6 +1,7 @@
 package hwalibo.toilet.controller.review.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hwalibo.toilet.config.jpa.QueryBudget;
 import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.dto.global.response.ApiResponse;
 import hwalibo.toilet.dto.review.photo.request.ReviewPhotoUpdateRequest;
@@ -9,6 +10,7 @@ import hwalibo.toilet.dto.review.request.ReviewUpdateRequest;
 import hwalibo.toilet.dto.review.response.user.MyReviewListResponse;
 import hwalibo.toilet.dto.review.response.ReviewUpdateResponse;
 import hwalibo.toilet.service.review.ReviewCommandService;
+import hwalibo.toilet.service.review.export.ReviewExportService;
 import hwalibo.toilet.service.review.query.ReviewQueryService;
 import hwalibo.toilet.service.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,6 +27,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -38,15 +41,26 @@ public class UserReviewController {
     private final ReviewCommandService reviewCommandService;
     private final ReviewQueryService reviewQueryService;
     private final UserService userService;
+    private final ReviewExportService reviewExportService;
     private final ObjectMapper objectMapper;
 
     @GetMapping("/list")
+    @QueryBudget(2) // 리뷰(태그 마스크 포함) 1 + 이미지 1
     @Operation(summary = "내가 쓴 리뷰 모아보기", security = { @SecurityRequirement(name = "bearerAuth") })
     public ResponseEntity<ApiResponse<MyReviewListResponse>> list(@AuthenticationPrincipal User loginUser) {
         MyReviewListResponse data = reviewQueryService.getMyReviews(loginUser);
         return ResponseEntity.ok(new ApiResponse<>(true, 200, "리뷰 목록을 성공적으로 조회했습니다.", data));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "내가 쓴 리뷰 전체 내보내기 (JSON 스트리밍)", security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal User loginUser) {
+        StreamingResponseBody body = reviewExportService.exportMyReviews(loginUser);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @PatchMapping("/{reviewId}")
     @Operation(summary = "리뷰 수정", security = { @SecurityRequirement(name = "bearerAuth") })
     public ResponseEntity<ApiResponse<ReviewUpdateResponse>> update(@AuthenticationPrincipal User loginUser,
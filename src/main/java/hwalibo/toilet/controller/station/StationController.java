@@ -1,9 +1,18 @@
 package hwalibo.toilet.controller.station;
 
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.dto.global.response.ApiResponse;
+import hwalibo.toilet.dto.station.request.StationSuggestBatchRequest;
 import hwalibo.toilet.dto.station.request.StationSuggestRequest;
+import hwalibo.toilet.dto.station.response.ClusterTileResponse;
+import hwalibo.toilet.dto.station.response.StationDetailResponse;
+import hwalibo.toilet.dto.station.response.StationGroupResponse;
 import hwalibo.toilet.dto.station.response.StationSearchResponse;
+import hwalibo.toilet.dto.station.response.StationSuggestBatchResponse;
 import hwalibo.toilet.dto.station.response.StationSuggestResponse;
+import hwalibo.toilet.dto.station.response.ToiletRecommendResponse;
+import hwalibo.toilet.dto.station.response.ToiletViewportResponse;
 import hwalibo.toilet.service.station.StationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -11,7 +20,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,12 +41,29 @@ public class StationController {
 
     @GetMapping("/search")
     @Operation(summary = "역 검색 결과 조회", security = { @SecurityRequirement(name = "bearerAuth") })
-    public ResponseEntity<ApiResponse<List<StationSearchResponse>>> search(@RequestParam("q") String q) {
-        List<StationSearchResponse> data = stationService.search(q);
+    public ResponseEntity<ApiResponse<List<StationSearchResponse>>> search(@RequestParam("q") String q,
+                                                                           @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        List<StationSearchResponse> data = stationService.search(q, fuzzy);
         String message = data.isEmpty() ? "검색 결과가 없습니다." : "검색 성공";
         return ResponseEntity.ok(new ApiResponse<>(true, 200, message, data));
     }
 
+    @GetMapping("/search/grouped")
+    @Operation(summary = "역 단위로 묶은 역 검색 결과 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<ApiResponse<List<StationGroupResponse>>> searchGrouped(@RequestParam("q") String q,
+                                                                                 @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        List<StationGroupResponse> data = stationService.searchGrouped(q, fuzzy);
+        String message = data.isEmpty() ? "검색 결과가 없습니다." : "검색 성공";
+        return ResponseEntity.ok(new ApiResponse<>(true, 200, message, data));
+    }
+
+    @GetMapping("/detail")
+    @Operation(summary = "역 상세 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<ApiResponse<StationDetailResponse>> detail(@RequestParam("name") String name) {
+        StationDetailResponse data = stationService.getStationDetail(name);
+        return ResponseEntity.ok(new ApiResponse<>(true, 200, "역 상세 조회 성공", data));
+    }
+
     @PostMapping("/suggest")
     @Operation(summary = "역 이름 자동완성", security = { @SecurityRequirement(name = "bearerAuth") })
     public ResponseEntity<ApiResponse<StationSuggestResponse>> suggest(@Valid @RequestBody StationSuggestRequest request) {
@@ -45,4 +73,44 @@ public class StationController {
         StationSuggestResponse data = stationService.suggest(request);
         return ResponseEntity.ok(new ApiResponse<>(true, 200, "가까운 역 3개 반환 성공", data));
     }
+
+    @PostMapping("/suggest/batch")
+    @Operation(summary = "여러 좌표의 가까운 역 일괄 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<ApiResponse<StationSuggestBatchResponse>> suggestBatch(@Valid @RequestBody StationSuggestBatchRequest request) {
+        StationSuggestBatchResponse data = stationService.suggestBatch(request);
+        return ResponseEntity.ok(new ApiResponse<>(true, 200, "가까운 역 일괄 조회 성공", data));
+    }
+
+    @GetMapping("/recommend")
+    @Operation(summary = "주변 추천 화장실 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<ApiResponse<List<ToiletRecommendResponse>>> recommend(@AuthenticationPrincipal User loginUser,
+                                                                              @RequestParam("lat") double lat,
+                                                                              @RequestParam("lng") double lng,
+                                                                              @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        Gender gender = loginUser != null ? loginUser.getGender() : null;
+        List<ToiletRecommendResponse> data = stationService.recommend(lat, lng, gender, limit);
+        String message = data.isEmpty() ? "주변에 추천할 화장실이 없습니다." : "주변 추천 화장실 조회 성공";
+        return ResponseEntity.ok(new ApiResponse<>(true, 200, message, data));
+    }
+
+    @GetMapping("/viewport")
+    @Operation(summary = "지도 화면 내 화장실 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<ApiResponse<ToiletViewportResponse>> viewport(@RequestParam("minLat") double minLat,
+                                                                        @RequestParam("maxLat") double maxLat,
+                                                                        @RequestParam("minLng") double minLng,
+                                                                        @RequestParam("maxLng") double maxLng,
+                                                                        @RequestParam(value = "gender", required = false) Gender gender,
+                                                                        @RequestParam(value = "limit", defaultValue = "200") int limit) {
+        ToiletViewportResponse data = stationService.findInViewport(minLat, maxLat, minLng, maxLng, gender, limit);
+        return ResponseEntity.ok(new ApiResponse<>(true, 200, "지도 화면 내 화장실 조회 성공", data));
+    }
+
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    @Operation(summary = "지도 클러스터 타일 조회", security = { @SecurityRequirement(name = "bearerAuth") })
+    public ResponseEntity<ApiResponse<ClusterTileResponse>> clusterTile(@PathVariable("z") int z,
+                                                                       @PathVariable("x") int x,
+                                                                       @PathVariable("y") int y) {
+        ClusterTileResponse data = stationService.getClusterTile(z, x, y);
+        return ResponseEntity.ok(new ApiResponse<>(true, 200, "클러스터 타일 조회 성공", data));
+    }
 }
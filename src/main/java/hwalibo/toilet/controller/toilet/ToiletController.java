@@ -4,16 +4,20 @@ import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.dto.global.response.ApiResponse;
 import hwalibo.toilet.dto.toilet.response.ToiletDetailResponse;
 import hwalibo.toilet.service.toilet.ToiletService;
+import hwalibo.toilet.service.toilet.version.ToiletVersionTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "화장실 상세 정보 조회", description = " 특정 화장실의 상세 정보 조회")
 @RestController
@@ -21,18 +25,26 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/toilet")
 public class ToiletController {
     private final ToiletService toiletService;
+    private final ToiletVersionTracker toiletVersionTracker;
 
     @Operation(
             summary = "화장실 상세 정보 조회",
-            description = "특정 화장실의 상세 정보 조회",
+            description = "특정 화장실의 상세 정보 조회 (If-None-Match가 현재 ETag와 같으면 304)",
             security = { @SecurityRequirement(name = "bearerAuth") }
     )
     @GetMapping("/{toiletId}")
     public ResponseEntity<ApiResponse<ToiletDetailResponse>> toiletDetail(
-            @AuthenticationPrincipal User loginUser,@PathVariable("toiletId") Long toiletId)
+            @AuthenticationPrincipal User loginUser,@PathVariable("toiletId") Long toiletId, WebRequest webRequest)
             {
+            String etag = toiletVersionTracker.etag(toiletId, null);
+            if (loginUser != null && webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
             ToiletDetailResponse response=toiletService.getToiletDetail(loginUser,toiletId);
-            return ResponseEntity.ok(new ApiResponse<>(true, 200, "화장실 상세 조회 성공", response));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(new ApiResponse<>(true, 200, "화장실 상세 조회 성공", response));
     }
 }
 
@@ -4,11 +4,13 @@ import hwalibo.toilet.domain.likes.Likes;
 import hwalibo.toilet.domain.toilet.Toilet;
 import hwalibo.toilet.domain.type.Tag;
 import hwalibo.toilet.domain.user.User;
+import hwalibo.toilet.utils.TagMaskUtils;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.NotFound;
 import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.annotations.Where;
@@ -26,6 +28,10 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class) // 생성/수정 시간 자동 감지를 위한 리스너
+@Table(indexes = {
+        // 태그 필터(tag_mask & :mask = :mask)를 화장실 범위 안에서 인덱스만 보고 거를 수 있도록
+        @Index(name = "idx_review_toilet_tag_mask", columnList = "toilet_id, tag_mask")
+})
 public class Review {
 
     @Id
@@ -58,17 +64,16 @@ public class Review {
     @Builder.Default
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("sortOrder ASC, id ASC") // 이미지 순서 정렬
+    @BatchSize(size = 100) // 목록 페이지의 리뷰 이미지는 IN 절로 한 번에 로딩
     private List<ReviewImage> reviewImages = new ArrayList<>();
 
     @Column(columnDefinition = "INTEGER DEFAULT 0")
     private Integer good; // '좋아요' 수
 
-    // Tag Enum 리스트
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "review_tags", joinColumns = @JoinColumn(name = "review_id"))
-    @Enumerated(EnumType.STRING)
-    @Column(name = "tag")
-    private List<Tag> tag;
+    // 태그 비트마스크 (Tag.ordinal() 번째 비트, 예전 review_tags 테이블 대신 한 컬럼에 저장)
+    // null은 아직 review_tags에서 옮겨지지 않은 예전 리뷰 (기동 시 마이그레이션)
+    @Column(name = "tag_mask")
+    private Integer tagMask;
 
     private boolean isDis; // 장애인 화장실 여부
 
@@ -82,4 +87,13 @@ public class Review {
     public void updateIsDis(boolean isDis) {
         this.isDis = isDis;
     }
+
+    // 태그 목록 (Tag 선언 순서)
+    public List<Tag> getTag() {
+        return TagMaskUtils.toTags(tagMask);
+    }
+
+    public void updateTags(List<Tag> tags) {
+        this.tagMask = TagMaskUtils.toMask(tags);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package hwalibo.toilet.domain.review;
 
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.domain.type.ImageVariant;
 import hwalibo.toilet.domain.type.ValidationStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -7,11 +9,21 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        // 사진 갤러리 커서 조회(화장실 + 성별 + 승인 상태 → 리뷰 작성일/ID 역순)를 인덱스 범위 스캔 하나로 처리
+        // 응답 컬럼(review_id, url, has_variants)까지 포함해서 테이블 본문을 읽지 않음
+        @Index(name = "idx_review_image_gallery",
+                columnList = "toilet_id, gender, status, review_created_at, id, review_id, url, has_variants")
+})
 public class ReviewImage {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +44,34 @@ public class ReviewImage {
     @Column(nullable = false)
     private Integer sortOrder; // 이미지 순서 (대표 이미지 = 0)
 
+    // 썸네일/중간/전체 크기 변형본이 S3에 올라가 있는지 (승인 시 생성, URL은 원본 URL에서 파생)
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean hasVariants;
+
+    // 갤러리 조회용 비정규화 컬럼 (review → toilet 조인 없이 인덱스만으로 필터/정렬)
+    // 리뷰의 화장실/작성일, 화장실의 성별은 바뀌지 않으므로 저장 시 한 번만 복사
+    // null은 컬럼 추가 전의 예전 이미지 (기동 시 백필)
+    @Column(name = "toilet_id")
+    private Long toiletId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Gender gender;
+
+    @Column(name = "review_created_at")
+    private LocalDateTime reviewCreatedAt;
+
+    @PrePersist
+    private void copyReviewColumns() {
+        if (review == null) return;
+        if (toiletId == null) toiletId = review.getToilet().getId();
+        if (gender == null) gender = review.getToilet().getGender();
+        if (reviewCreatedAt == null) {
+            // 같은 트랜잭션에서 방금 만든 리뷰는 아직 작성일이 없을 수 있음
+            reviewCreatedAt = review.getCreatedAt() != null ? review.getCreatedAt() : LocalDateTime.now();
+        }
+    }
+
     // URL 수정
     public void updateUrl(String newUrl) {
         this.url = newUrl;
@@ -41,6 +81,27 @@ public class ReviewImage {
         this.status = ValidationStatus.APPROVED;
     }
 
+    public void markVariantsReady() {
+        this.hasVariants = true;
+    }
+
+    // 용도에 맞는 크기의 URL (변형본이 없으면 원본)
+    public String urlFor(ImageVariant variant) {
+        return variant.resolve(url, hasVariants);
+    }
+
+    // S3에서 지울 때 원본과 변형본 URL 전체
+    public List<String> getAllUrls() {
+        List<String> urls = new ArrayList<>();
+        urls.add(url);
+        if (hasVariants) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                urls.add(variant.urlOf(url));
+            }
+        }
+        return urls;
+    }
+
     public void reject(){
         this.status=ValidationStatus.REJECTED;
     }
@@ -0,0 +1,35 @@
+package hwalibo.toilet.domain.toilet;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 개수 배열(태그별 개수, 별점 구간별 개수) ↔ 고정 폭 바이너리 변환
+ * - 값 하나당 4바이트(big-endian int)로 이어 붙여 저장 (태그 10개 = 40바이트)
+ */
+@Converter
+public class PackedIntArrayConverter implements AttributeConverter<int[], byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(int[] counts) {
+        if (counts == null) return null;
+        ByteBuffer buffer = ByteBuffer.allocate(counts.length * Integer.BYTES);
+        for (int count : counts) {
+            buffer.putInt(count);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public int[] convertToEntityAttribute(byte[] bytes) {
+        if (bytes == null) return null;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] counts = new int[bytes.length / Integer.BYTES];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buffer.getInt();
+        }
+        return counts;
+    }
+}
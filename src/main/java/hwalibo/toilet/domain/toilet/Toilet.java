@@ -2,9 +2,16 @@ package hwalibo.toilet.domain.toilet;
 
 import hwalibo.toilet.domain.type.Gender;
 import hwalibo.toilet.domain.type.InOut;
+import hwalibo.toilet.domain.type.Tag;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Entity
 @Getter
 @Setter
@@ -13,6 +20,8 @@ import lombok.*;
 @Builder
 public class Toilet {
 
+    public static final int STAR_BUCKETS = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -48,8 +57,25 @@ public class Toilet {
     @Column(columnDefinition = "INTEGER DEFAULT 0")
     private Integer numReview; // 리뷰 개수
 
+    // 태그별 누적 개수 (Tag.ordinal() 순서, 4바이트씩 묶어 저장 / 아직 집계 전이면 null)
+    @Convert(converter = PackedIntArrayConverter.class)
+    @Column(columnDefinition = "VARBINARY(64)")
+    private int[] tagCounts;
+
+    // 별점 합계 (0.5점 단위 정수라 오차 없이 더하고 뺌 / 아직 집계 전이면 null)
+    private Long starHalfSum;
+
+    // 별점 구간(1 ~ 5점)별 리뷰 수 (아직 집계 전이면 null)
+    @Convert(converter = PackedIntArrayConverter.class)
+    @Column(columnDefinition = "VARBINARY(32)")
+    private int[] starBuckets;
+
     //별점 및 리뷰 갯수 갱신 함수
     public void updateReviewStats(double newReviewStar) {
+        if (hasExactStarStats()) {
+            applyStar(newReviewStar, 1);
+            return;
+        }
 
         // 1. (변경점) null 체크 및 0으로 초기화
         // DB에서 가져온 값이 null일 경우를 대비해 0.0과 0으로 처리합니다.
@@ -68,6 +94,11 @@ public class Toilet {
     }
 
     public void removeReviewStats(double removedReviewStar) {
+        if (hasExactStarStats()) {
+            applyStar(removedReviewStar, -1);
+            return;
+        }
+
         double currentStar = (this.star != null) ? this.star : 0.0;
         int currentNumReview = (this.numReview != null) ? this.numReview : 0;
 
@@ -84,4 +115,97 @@ public class Toilet {
         this.star = newAverageStar;
         this.numReview = newNumReview;
     }
+
+    // 리뷰 수정으로 별점만 바뀐 경우 (리뷰 개수는 그대로)
+    public void changeReviewStar(double oldStar, double newStar) {
+        if (oldStar == newStar) return;
+        if (hasExactStarStats()) {
+            applyStar(oldStar, -1);
+            applyStar(newStar, 1);
+            return;
+        }
+
+        int currentNumReview = (this.numReview != null) ? this.numReview : 0;
+        if (currentNumReview == 0) return;
+        double currentStar = (this.star != null) ? this.star : 0.0;
+        this.star = (currentStar * currentNumReview - oldStar + newStar) / currentNumReview;
+    }
+
+    // 리뷰 전체를 집계한 값으로 별점 통계를 다시 설정 (백필용)
+    public void resetStarStats(long starHalfSum, int[] starBuckets) {
+        this.starHalfSum = starHalfSum;
+        this.starBuckets = Arrays.copyOf(starBuckets, STAR_BUCKETS);
+        refreshAverage();
+    }
+
+    // 별점 점수(1 ~ 5) → 리뷰 수 (집계 전이면 빈 맵)
+    public Map<Integer, Integer> getStarDistribution() {
+        Map<Integer, Integer> result = new LinkedHashMap<>();
+        if (this.starBuckets == null) return result;
+        for (int i = 0; i < STAR_BUCKETS; i++) {
+            result.put(i + 1, i < this.starBuckets.length ? this.starBuckets[i] : 0);
+        }
+        return result;
+    }
+
+    // 0.5점 단위 정수 (4.5점 → 9)
+    public static int toHalfStars(double star) {
+        return (int) Math.round(star * 2);
+    }
+
+    // 별점이 속한 구간 번호 (0 ~ 4, 소수점은 올림: 0.5 → 1점, 3.5 → 4점)
+    public static int starBucketOf(double star) {
+        return Math.min(STAR_BUCKETS, Math.max(1, (int) Math.ceil(star))) - 1;
+    }
+
+    private boolean hasExactStarStats() {
+        return this.starHalfSum != null && this.starBuckets != null;
+    }
+
+    private void applyStar(double reviewStar, int delta) {
+        int[] next = Arrays.copyOf(this.starBuckets, STAR_BUCKETS);
+        int bucket = starBucketOf(reviewStar);
+        next[bucket] = Math.max(0, next[bucket] + delta);
+
+        this.starBuckets = next;
+        this.starHalfSum = Math.max(0L, this.starHalfSum + (long) delta * toHalfStars(reviewStar));
+        refreshAverage();
+    }
+
+    // 평균/개수는 정수 합계와 구간 개수에서 매번 새로 계산 (누적 오차 없음)
+    private void refreshAverage() {
+        int count = Arrays.stream(this.starBuckets).sum();
+        this.numReview = count;
+        this.star = count == 0 ? 0.0 : this.starHalfSum / 2.0 / count;
+    }
+
+    // 리뷰 작성/수정/삭제 시 태그 개수 갱신 (removed: 빠진 태그, added: 추가된 태그)
+    public void updateTagCounts(Collection<Tag> removed, Collection<Tag> added) {
+        // 집계 전인 화장실은 기동 시 백필이 리뷰 전체를 다시 세므로 건드리지 않음
+        if (this.tagCounts == null) return;
+
+        int[] next = Arrays.copyOf(this.tagCounts, Tag.values().length);
+        if (removed != null) {
+            for (Tag tag : removed) {
+                next[tag.ordinal()] = Math.max(0, next[tag.ordinal()] - 1);
+            }
+        }
+        if (added != null) {
+            for (Tag tag : added) {
+                next[tag.ordinal()]++;
+            }
+        }
+        // 배열 내용만 바꾸지 않고 새 배열로 교체해야 변경 감지가 확실히 동작
+        this.tagCounts = next;
+    }
+
+    // 태그 → 개수 (집계 전이면 빈 맵)
+    public Map<Tag, Integer> getTagCountMap() {
+        Map<Tag, Integer> result = new EnumMap<>(Tag.class);
+        if (this.tagCounts == null) return result;
+        for (Tag tag : Tag.values()) {
+            result.put(tag, tag.ordinal() < this.tagCounts.length ? this.tagCounts[tag.ordinal()] : 0);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,30 @@
+package hwalibo.toilet.domain.type;
+
+import hwalibo.toilet.utils.S3KeyUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 이미지 해상도별 변형본 (모두 JPEG)
+ * - 원본 키에서 파생된 키에 저장: reviews/{uuid}.png → reviews/{uuid}_thumb.jpg
+ * - THUMBNAIL: 사진 갤러리 타일 / MEDIUM: 리뷰 목록 / FULL: 사진 상세
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL("thumb", 320),
+    MEDIUM("medium", 1080),
+    FULL("full", 2048);
+
+    private final String suffix;
+    private final int maxSize; // 가로세로 중 큰 쪽의 최대 픽셀 (원본보다 키우지는 않음)
+
+    public String urlOf(String originalUrl) {
+        return S3KeyUtils.toVariant(originalUrl, suffix, "jpg");
+    }
+
+    // 변형본이 아직 없으면(검수 전 / 생성 실패 / 예전 이미지) 원본 URL
+    public String resolve(String originalUrl, boolean hasVariants) {
+        return hasVariants ? urlOf(originalUrl) : originalUrl;
+    }
+}
@@ -0,0 +1,21 @@
+package hwalibo.toilet.dto.review.photo.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드 완료 확인 요청 (발급받은 key 목록, 요청 순서 = 이미지 순서)")
+public class PhotoConfirmRequest {
+
+    @NotEmpty(message = "업로드한 이미지 key가 필요합니다.")
+    @Size(max = 2, message = "이미지는 최대 2개까지 업로드할 수 있습니다.")
+    private List<String> keys;
+}
@@ -0,0 +1,37 @@
+package hwalibo.toilet.dto.review.photo.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드 URL 발급 요청 (올릴 파일들의 타입/크기)")
+public class PhotoPresignRequest {
+
+    @NotEmpty(message = "업로드할 파일 정보가 필요합니다.")
+    @Size(max = 2, message = "이미지는 최대 2개까지 업로드할 수 있습니다.")
+    @Valid
+    private List<FileSpec> files;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileSpec {
+
+        @NotBlank(message = "Content-Type은 필수입니다.")
+        private String contentType;
+
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        private long size;
+    }
+}
@@ -0,0 +1,34 @@
+package hwalibo.toilet.dto.review.photo.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "직접 업로드 URL 발급 응답")
+public class PhotoPresignResponse {
+
+    private List<PresignedUpload> uploads;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "파일 하나의 업로드 정보 (uploadUrl로 headers를 그대로 붙여 PUT, 완료 후 key로 확인 요청)")
+    public static class PresignedUpload {
+        private int index;
+        private String key;
+        private String uploadUrl;
+        private Map<String, List<String>> headers;
+        private LocalDateTime expiresAt;
+    }
+}
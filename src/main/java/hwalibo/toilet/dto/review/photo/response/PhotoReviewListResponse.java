@@ -1,7 +1,8 @@
 package hwalibo.toilet.dto.review.photo.response;
 
 
-import hwalibo.toilet.domain.review.ReviewImage;
+import hwalibo.toilet.domain.type.ImageVariant;
+import hwalibo.toilet.respository.review.projection.PhotoRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,13 +24,13 @@ public class PhotoReviewListResponse {
     private String nextCursor;
 
 
-    public static PhotoReviewListResponse fromReviews(Slice<ReviewImage> reviewSlice,String newCursor) {
+    public static PhotoReviewListResponse fromRows(Slice<PhotoRow> reviewSlice,String newCursor) {
         List<PhotoReview> photoDtos = reviewSlice.getContent().stream()
-                .map(image -> new PhotoReview(
-                        image.getUrl(),
-                        image.getReview().getId(),
-                        image.getReview().getToilet().getId(),
-                        image.getId()
+                .map(row -> new PhotoReview(
+                        ImageVariant.THUMBNAIL.resolve(row.photoUrl(), row.hasVariants()), // 갤러리 타일은 썸네일
+                        row.reviewId(),
+                        row.toiletId(),
+                        row.photoId()
                 ))
                 .collect(Collectors.toList());
         return new PhotoReviewListResponse(photoDtos, reviewSlice.hasNext(),newCursor);
@@ -5,6 +5,7 @@ import hwalibo.toilet.domain.review.Review;
 import hwalibo.toilet.domain.toilet.Toilet;
 import hwalibo.toilet.domain.type.Tag;
 import hwalibo.toilet.domain.user.User;
+import hwalibo.toilet.utils.TagMaskUtils;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -49,7 +50,7 @@ public class ReviewCreateRequest {
                 .user(user)
                 .toilet(toilet)
                 .good(0)
-                .tag(tagEnum)
+                .tagMask(TagMaskUtils.toMask(tagEnum))
                 .isDis(isDis)
                 .build();
     }
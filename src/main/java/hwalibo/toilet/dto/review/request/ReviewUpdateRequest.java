@@ -3,6 +3,7 @@ package hwalibo.toilet.dto.review.request;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import hwalibo.toilet.domain.review.Review;
 import hwalibo.toilet.domain.type.Tag;
+import hwalibo.toilet.utils.TagMaskUtils;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -31,7 +32,7 @@ public class ReviewUpdateRequest {
                 .id(reviewId)
                 .star(star)
                 .description(description)
-                .tag(tag)
+                .tagMask(TagMaskUtils.toMask(tag))
                 .isDis(isDis)
                 .build();
     }
@@ -8,8 +8,12 @@ import java.util.List;
 public class ReviewListResponse {
 
     private final List<ReviewResponse> reviews;
+    private final boolean hasNext;
+    private final String nextCursor;
 
-    public ReviewListResponse (List<ReviewResponse> reviews) {
+    public ReviewListResponse (List<ReviewResponse> reviews, boolean hasNext, String nextCursor) {
         this.reviews = reviews;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 }
@@ -1,19 +1,14 @@
 package hwalibo.toilet.dto.review.response;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import hwalibo.toilet.domain.review.Review;
+import hwalibo.toilet.respository.review.projection.ReviewRow;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import hwalibo.toilet.domain.review.ReviewImage;
-import hwalibo.toilet.domain.user.User;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 
 
 @Getter
@@ -38,39 +33,28 @@ public class ReviewResponse {
     @JsonProperty("isDis")
     private Boolean isDis;
 
-    public static ReviewResponse from(Review review,boolean canViewPhoto) {
-        final User user = review.getUser();
+    /**
+     * 리뷰 행(ReviewRow)과 따로 조회해 둔 태그/사진으로 응답 생성 (엔티티를 거치지 않음)
+     */
+    public static ReviewResponse of(ReviewRow review, List<String> tagNames, List<String> photoUrl) {
+        boolean withdrawn = review.userId() == null;
 
-        List<String> tagNames = review.getTag().stream()
-                .map(Enum::name)
-                .collect(Collectors.toList());
-
-        List<String> photoUrl=review.getReviewImages().stream()
-                .sorted(Comparator.comparing(ReviewImage::getSortOrder))
-                .map(ReviewImage::getUrl)
-                .collect(Collectors.toList());
-
-        if (!canViewPhoto) {
-            photoUrl = Collections.emptyList();
-        }
-
-        String userName = (user != null) ? user.getName() : "탈퇴한 사용자";
-        String userProfile = (user != null) ? user.getProfile() : null;
-        Long userId = (user != null) ? user.getId() : null;
+        String userName = withdrawn ? "탈퇴한 사용자" : review.userName();
+        String userProfile = withdrawn ? null : review.userProfile();
 
         return ReviewResponse.builder()
-                .id(review.getId())
-                .userId(userId)
+                .id(review.id())
+                .userId(review.userId())
                 .userName(userName)
                 .userPhoto(userProfile)
-                .description(review.getDescription())
-                .star(review.getStar())
+                .description(review.description())
+                .star(review.star())
                 .tag(tagNames)
                 .photo(photoUrl)
-                .good(review.getGood())
-                .createdAt(review.getCreatedAt())
-                .updatedAt(review.getUpdatedAt())
+                .good(review.good())
+                .createdAt(review.createdAt())
+                .updatedAt(review.updatedAt())
                 .isDis(review.isDis())
                 .build();
     }
-}
\ No newline at end of file
+}
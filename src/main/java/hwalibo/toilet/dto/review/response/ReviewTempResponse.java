@@ -3,12 +3,12 @@ package hwalibo.toilet.dto.review.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import hwalibo.toilet.domain.review.Review;
+import hwalibo.toilet.utils.TagMaskUtils;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -32,9 +32,7 @@ public class ReviewTempResponse {
     private Boolean isDis;
 
     public static ReviewTempResponse from(Review review) {
-        List<String> tagNames = review.getTag().stream()
-                .map(Enum::name)
-                .collect(Collectors.toList());
+        List<String> tagNames = TagMaskUtils.toTagNames(review.getTagMask());
 
         return ReviewTempResponse.builder()
                 .id(review.getId())
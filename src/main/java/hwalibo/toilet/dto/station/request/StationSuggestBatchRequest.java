@@ -0,0 +1,21 @@
+package hwalibo.toilet.dto.station.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StationSuggestBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "좌표 목록은 비어 있을 수 없습니다.")
+    @Size(max = 500, message = "좌표는 한 번에 최대 500개까지 조회할 수 있습니다.")
+    private List<StationSuggestRequest> points;  // 경로 위 좌표들 (요청 순서대로 응답)
+}
@@ -0,0 +1,30 @@
+package hwalibo.toilet.dto.station.response;
+
+import hwalibo.toilet.service.station.cluster.TileCluster;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ClusterResponse {
+
+    private final int count;       // 클러스터 내 화장실 수
+    private final int maleCount;
+    private final int femaleCount;
+    private final double latitude;  // 중심점
+    private final double longitude;
+    private final double star;      // 평균 별점
+    private final long numReview;
+
+    public static ClusterResponse from(TileCluster cluster) {
+        return ClusterResponse.builder()
+                .count(cluster.count())
+                .maleCount(cluster.maleCount())
+                .femaleCount(cluster.femaleCount())
+                .latitude(cluster.latitude())
+                .longitude(cluster.longitude())
+                .star(Math.round(cluster.star() * 10) / 10.0)
+                .numReview(cluster.numReview())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package hwalibo.toilet.dto.station.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ClusterTileResponse {
+
+    private final String key;      // "z/x/y" (클라이언트 캐시 키)
+    private final long version;    // 타일 집계가 바뀔 때마다 증가 (재구축/재시작 후에도 겹치지 않아 캐시 키로 사용 가능)
+    private final List<ClusterResponse> clusters;
+
+    public ClusterTileResponse(int z, int x, int y, long version, List<ClusterResponse> clusters) {
+        this.key = z + "/" + x + "/" + y;
+        this.version = version;
+        this.clusters = clusters;
+    }
+}
@@ -0,0 +1,34 @@
+package hwalibo.toilet.dto.station.response;
+
+import hwalibo.toilet.service.station.aggregate.StationSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class StationDetailResponse {
+
+    private final String name;
+    private final List<Integer> lines;
+    private final List<Integer> exits;
+    private final double latitude;
+    private final double longitude;
+    private final double star;      // 리뷰 수로 가중한 역 평균 별점
+    private final int numReview;
+    private final List<StationSearchResponse> toilets;  // 호선 → 성별 순
+
+    public static StationDetailResponse from(StationSummary station, List<StationSearchResponse> toilets) {
+        return StationDetailResponse.builder()
+                .name(station.name())
+                .lines(station.lines())
+                .exits(station.exits())
+                .latitude(station.latitude())
+                .longitude(station.longitude())
+                .star(Math.round(station.star() * 10) / 10.0)
+                .numReview(station.numReview())
+                .toilets(toilets)
+                .build();
+    }
+}
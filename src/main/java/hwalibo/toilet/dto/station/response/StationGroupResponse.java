@@ -0,0 +1,32 @@
+package hwalibo.toilet.dto.station.response;
+
+import hwalibo.toilet.service.station.aggregate.StationSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class StationGroupResponse {
+
+    private final String name;
+    private final List<Integer> lines;
+    private final List<Integer> exits;
+    private final List<Long> maleToiletIds;
+    private final List<Long> femaleToiletIds;
+    private final double star;      // 리뷰 수로 가중한 역 평균 별점
+    private final int numReview;
+
+    public static StationGroupResponse from(StationSummary station) {
+        return StationGroupResponse.builder()
+                .name(station.name())
+                .lines(station.lines())
+                .exits(station.exits())
+                .maleToiletIds(station.maleToiletIds())
+                .femaleToiletIds(station.femaleToiletIds())
+                .star(Math.round(station.star() * 10) / 10.0)
+                .numReview(station.numReview())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package hwalibo.toilet.dto.station.response;
 
 import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.service.station.index.IndexedToilet;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -25,4 +26,15 @@ public class StationSearchResponse {
                 .numReview(reviewCount != null ? reviewCount : toilet.getNumReview())
                 .build();
     }
+
+    public static StationSearchResponse from(IndexedToilet toilet) {
+        return StationSearchResponse.builder()
+                .id(toilet.getId())
+                .name(toilet.getName())
+                .line(toilet.getLine())
+                .gender(toilet.getGender().name())
+                .star(toilet.getStar())
+                .numReview(toilet.getNumReview())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package hwalibo.toilet.dto.station.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StationSuggestBatchResponse {
+
+    // 요청한 좌표 순서와 같은 순서
+    private final List<StationSuggestResponse> results;
+
+    public StationSuggestBatchResponse(List<StationSuggestResponse> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,28 @@
+package hwalibo.toilet.dto.station.response;
+
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ToiletMarkerResponse {
+
+    private final Long id;
+    private final String name;
+    private final Integer line;
+    private final String gender;
+    private final double latitude;
+    private final double longitude;
+
+    public static ToiletMarkerResponse from(IndexedToilet toilet) {
+        return ToiletMarkerResponse.builder()
+                .id(toilet.getId())
+                .name(toilet.getName())
+                .line(toilet.getLine())
+                .gender(String.valueOf(toilet.getGender()))
+                .latitude(toilet.getLatitude())
+                .longitude(toilet.getLongitude())
+                .build();
+    }
+}
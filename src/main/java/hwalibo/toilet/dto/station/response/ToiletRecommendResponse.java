@@ -0,0 +1,38 @@
+package hwalibo.toilet.dto.station.response;
+
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.recommend.ToiletRecommender.RecommendedToilet;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ToiletRecommendResponse {
+
+    private final Long id;
+    private final String name;
+    private final Integer line;
+    private final String gender;
+    private final double latitude;
+    private final double longitude;
+    private final double star;
+    private final int numReview;
+    private final int distance;  // 미터
+    private final double score;  // 추천 점수 (0 ~ 1)
+
+    public static ToiletRecommendResponse from(RecommendedToilet recommended) {
+        IndexedToilet toilet = recommended.toilet();
+        return ToiletRecommendResponse.builder()
+                .id(toilet.getId())
+                .name(toilet.getName())
+                .line(toilet.getLine())
+                .gender(String.valueOf(toilet.getGender()))
+                .latitude(toilet.getLatitude())
+                .longitude(toilet.getLongitude())
+                .star(Math.round(toilet.getStar() * 10) / 10.0)
+                .numReview(toilet.getNumReview())
+                .distance((int) Math.round(recommended.distance()))
+                .score(Math.round(recommended.score() * 1000) / 1000.0)
+                .build();
+    }
+}
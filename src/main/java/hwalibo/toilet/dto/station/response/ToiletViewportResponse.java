@@ -0,0 +1,17 @@
+package hwalibo.toilet.dto.station.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ToiletViewportResponse {
+
+    private final List<ToiletMarkerResponse> toilets;
+    private final boolean truncated; // limit을 넘어 잘린 결과인지 여부
+
+    public ToiletViewportResponse(List<ToiletMarkerResponse> toilets, boolean truncated) {
+        this.toilets = toilets;
+        this.truncated = truncated;
+    }
+}
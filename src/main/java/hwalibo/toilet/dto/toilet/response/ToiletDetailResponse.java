@@ -1,11 +1,14 @@
 package hwalibo.toilet.dto.toilet.response;
 
 import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Tag;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,6 +27,8 @@ public class ToiletDetailResponse {
     private double latitude;
     private double longitude;
     private int numReview;
+    private Map<Tag, Integer> tagCounts; // 태그별 리뷰 수 (Tag 선언 순서)
+    private Map<Integer, Integer> starDistribution; // 별점(1 ~ 5점)별 리뷰 수, 0.5점 단위는 올림
 
     // Entity → DTO 변환
     public static ToiletDetailResponse of(Toilet toilet) {
@@ -44,6 +49,8 @@ public class ToiletDetailResponse {
                 .latitude(toilet.getLatitude())
                 .longitude(toilet.getLongitude())
                 .numReview(toilet.getNumReview())
+                .tagCounts(toilet.getTagCountMap())
+                .starDistribution(toilet.getStarDistribution())
                 .build();
     }
 }
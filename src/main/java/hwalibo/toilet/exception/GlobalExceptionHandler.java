@@ -11,12 +11,14 @@ import hwalibo.toilet.exception.review.AlreadyLikedException;
 import hwalibo.toilet.exception.review.NotLikedException;
 import hwalibo.toilet.exception.review.ReviewNotFoundException;
 import hwalibo.toilet.exception.review.SummaryGenerationException;
+import hwalibo.toilet.exception.station.StationNotFoundException;
 import hwalibo.toilet.exception.toilet.ToiletNotFoundException;
 import hwalibo.toilet.exception.user.DuplicateUserNameException;
 import hwalibo.toilet.exception.user.IdenticalNameException;
 import hwalibo.toilet.exception.user.UserNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -95,6 +97,13 @@ public class GlobalExceptionHandler {
     }
 
 
+    //StationNotFoundException
+    @ExceptionHandler(StationNotFoundException.class)
+    protected ResponseEntity<ApiResponse<?>> handleStationNotFoundException(StationNotFoundException e) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+
     //AlreadyLikedException
     @ExceptionHandler(AlreadyLikedException.class)
     protected ResponseEntity<ApiResponse<?>> handleAlreadyLikedException(AlreadyLikedException e) {
@@ -124,6 +133,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST,e.getMessage());
     }
 
+    // @PreAuthorize 권한 부족 (관리자 전용 API 등)
+    @ExceptionHandler(AccessDeniedException.class)
+    protected ResponseEntity<ApiResponse<?>> handleAccessDeniedException(AccessDeniedException e) {
+        return buildErrorResponse(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+    }
+
     // 기타 모든 예외 처리 (500 Internal Server Error)
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ApiResponse<?>> handleException(Exception e) {
@@ -0,0 +1,7 @@
+package hwalibo.toilet.exception.station;
+
+public class StationNotFoundException extends RuntimeException {
+    public StationNotFoundException() {
+        super("해당 역을 찾을 수 없습니다.");
+    }
+}
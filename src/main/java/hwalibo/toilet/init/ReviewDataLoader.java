@@ -9,6 +9,7 @@ import hwalibo.toilet.respository.review.ReviewRepository;
 import hwalibo.toilet.respository.toilet.ToiletRepository;
 import hwalibo.toilet.respository.user.UserRepository;
 import hwalibo.toilet.service.user.UserRankService;
+import hwalibo.toilet.utils.TagMaskUtils;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -184,7 +185,7 @@ public class ReviewDataLoader {
                         .description(content)
                         .toilet(toilet)
                         .user(currentUser)
-                        .tag(tags)
+                        .tagMask(TagMaskUtils.toMask(tags))
                         .isDis(isDis)
                         .build();
 
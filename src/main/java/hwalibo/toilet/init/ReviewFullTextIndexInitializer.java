@@ -0,0 +1,41 @@
+package hwalibo.toilet.init;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 본문 FULLTEXT 인덱스 생성
+ * - JPA @Index로는 FULLTEXT / WITH PARSER ngram을 표현할 수 없어서 기동 시 직접 생성 (이미 있으면 건너뜀)
+ * - ngram 파서는 띄어쓰기 없는 한글도 2글자 단위(ngram_token_size 기본값)로 잘라 색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class ReviewFullTextIndexInitializer {
+
+    private static final String INDEX_NAME = "ft_review_description";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'review' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (count != null && count > 0) return;
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE review ADD FULLTEXT INDEX " + INDEX_NAME + " (description) WITH PARSER ngram");
+            log.info("✅ 리뷰 본문 FULLTEXT(ngram) 인덱스 생성 완료");
+        } catch (Exception e) {
+            // 인덱스가 없어도 기동은 계속 (검색 API만 실패)
+            log.error("❌ 리뷰 본문 FULLTEXT 인덱스 생성 실패", e);
+        }
+    }
+}
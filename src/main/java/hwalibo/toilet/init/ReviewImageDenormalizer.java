@@ -0,0 +1,33 @@
+package hwalibo.toilet.init;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * review_image 비정규화 컬럼(toilet_id, gender, review_created_at) 백필
+ * - 컬럼이 추가되기 전부터 있던 이미지(toilet_id가 null)만 review/toilet과 조인해서 한 번에 채움
+ * - 이후 저장되는 이미지는 ReviewImage @PrePersist에서 리뷰 값을 복사
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class ReviewImageDenormalizer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void backfill() {
+        int updated = jdbcTemplate.update(
+                "UPDATE review_image ri " +
+                        "JOIN review r ON r.id = ri.review_id " +
+                        "JOIN toilet t ON t.id = r.toilet_id " +
+                        "SET ri.toilet_id = r.toilet_id, ri.gender = t.gender, ri.review_created_at = r.created_at " +
+                        "WHERE ri.toilet_id IS NULL");
+        if (updated > 0) log.info("✅ 리뷰 이미지 비정규화 컬럼 백필 완료. 이미지 {}개", updated);
+    }
+}
@@ -0,0 +1,56 @@
+package hwalibo.toilet.init;
+
+import hwalibo.toilet.domain.type.Tag;
+import hwalibo.toilet.utils.TagMaskUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * review_tags(태그 행) → review.tag_mask(비트마스크) 마이그레이션
+ * - tag_mask가 null인 예전 리뷰만 대상이라 여러 번 실행돼도 결과가 같음
+ * - 스키마 갱신(ddl-auto)으로 tag_mask 컬럼이 생긴 뒤에 실행되도록 entityManagerFactory 이후로 순서 지정
+ * - 태그 개수 백필(ApplicationReadyEvent)보다 먼저 끝나야 하므로 @PostConstruct에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class ReviewTagMaskMigrator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        if (!reviewTagsTableExists()) {
+            int updated = jdbcTemplate.update("UPDATE review SET tag_mask = 0 WHERE tag_mask IS NULL");
+            if (updated > 0) log.info("✅ 태그 마스크 초기화 완료 (review_tags 없음). 리뷰 {}개", updated);
+            return;
+        }
+
+        // 'TOILET_CLEAN' → 1, 'SINK_CLEAN' → 2, ... (Tag 선언 순서 = 비트 위치)
+        String bitOfTag = Arrays.stream(Tag.values())
+                .map(tag -> "WHEN '" + tag.name() + "' THEN " + TagMaskUtils.bitOf(tag))
+                .collect(Collectors.joining(" ", "CASE rt.tag ", " ELSE 0 END"));
+
+        int updated = jdbcTemplate.update(
+                "UPDATE review r SET r.tag_mask = COALESCE(" +
+                        "(SELECT BIT_OR(" + bitOfTag + ") FROM review_tags rt WHERE rt.review_id = r.id), 0) " +
+                        "WHERE r.tag_mask IS NULL");
+        if (updated > 0) log.info("✅ review_tags → tag_mask 마이그레이션 완료. 리뷰 {}개", updated);
+    }
+
+    private boolean reviewTagsTableExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'review_tags'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
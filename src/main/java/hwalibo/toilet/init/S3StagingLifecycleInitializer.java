@@ -0,0 +1,80 @@
+package hwalibo.toilet.init;
+
+import hwalibo.toilet.service.review.upload.ReviewPhotoDirectUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortIncompleteMultipartUpload;
+import software.amazon.awssdk.services.s3.model.BucketLifecycleConfiguration;
+import software.amazon.awssdk.services.s3.model.ExpirationStatus;
+import software.amazon.awssdk.services.s3.model.LifecycleExpiration;
+import software.amazon.awssdk.services.s3.model.LifecycleRule;
+import software.amazon.awssdk.services.s3.model.LifecycleRuleFilter;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직접 업로드 임시 경로(staging/) 수명 주기 규칙 등록
+ * - 발급만 되고 확인되지 않은 업로드 객체를 S3가 expire-days 뒤에 자동 삭제
+ * - 버킷의 기존 규칙은 그대로 두고, 같은 ID의 규칙이 없을 때만 추가
+ * - 권한이 없거나 실패해도 기동은 계속 (이 경우 버킷에 같은 규칙을 직접 등록해야 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3StagingLifecycleInitializer {
+
+    private static final String RULE_ID = "expire-upload-staging";
+
+    private final S3Client s3Client;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${upload.presigned.manage-lifecycle:true}")
+    private boolean enabled;
+
+    @Value("${upload.presigned.staging-expire-days:1}")
+    private int expireDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!enabled) return;
+
+        try {
+            List<LifecycleRule> rules = new ArrayList<>(currentRules());
+            if (rules.stream().anyMatch(rule -> RULE_ID.equals(rule.id()))) return;
+
+            rules.add(LifecycleRule.builder()
+                    .id(RULE_ID)
+                    .filter(LifecycleRuleFilter.builder().prefix(ReviewPhotoDirectUploadService.STAGING_PREFIX).build())
+                    .status(ExpirationStatus.ENABLED)
+                    .expiration(LifecycleExpiration.builder().days(expireDays).build())
+                    .abortIncompleteMultipartUpload(AbortIncompleteMultipartUpload.builder().daysAfterInitiation(1).build())
+                    .build());
+
+            s3Client.putBucketLifecycleConfiguration(builder -> builder
+                    .bucket(bucket)
+                    .lifecycleConfiguration(BucketLifecycleConfiguration.builder().rules(rules).build()));
+            log.info("✅ S3 임시 업로드 경로 수명 주기 규칙 등록 완료 ({}일 후 만료)", expireDays);
+        } catch (Exception e) {
+            log.error("❌ S3 임시 업로드 경로 수명 주기 규칙 등록 실패 (버킷에 직접 등록 필요)", e);
+        }
+    }
+
+    private List<LifecycleRule> currentRules() {
+        try {
+            return s3Client.getBucketLifecycleConfiguration(builder -> builder.bucket(bucket)).rules();
+        } catch (S3Exception e) {
+            // 규칙이 하나도 없는 버킷은 NoSuchLifecycleConfiguration(404)
+            if (e.statusCode() == 404) return List.of();
+            throw e;
+        }
+    }
+}
@@ -2,56 +2,192 @@ package hwalibo.toilet.respository.review;
 
 import hwalibo.toilet.domain.review.Review;
 import hwalibo.toilet.domain.user.User;
+import hwalibo.toilet.respository.review.projection.MyReviewRow;
+import hwalibo.toilet.respository.review.projection.ReviewExportRow;
+import hwalibo.toilet.respository.review.projection.ReviewRow;
+import hwalibo.toilet.respository.review.projection.ToiletStarCountRow;
+import hwalibo.toilet.respository.review.projection.ToiletTagMaskCountRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReviewQueryRepository extends JpaRepository<Review, Long> {
     /**
      * 사용자가 작성한 리뷰 목록을 조회합니다. (내가 쓴 리뷰)
-     * * 1. N+1 문제 해결을 위해 ReviewImages를 LEFT JOIN FETCH 합니다.
-     * 2. 사진이 없는 리뷰 (ri IS NULL)와 APPROVED 상태의 사진이 있는 리뷰만 포함합니다.
-     * 3. DISTINCT를 사용하여 JOIN FETCH로 인해 발생할 수 있는 Review 엔티티의 중복을 제거합니다.
-     * (GROUP BY를 제거하여 'only_full_group_by' 에러를 회피합니다.)
+     * 1. 엔티티 대신 필요한 컬럼만 MyReviewRow 레코드로 바로 읽습니다. (영속성 컨텍스트 스냅샷 없음)
+     * 2. 사진이 없는 리뷰와 APPROVED 상태의 사진이 있는 리뷰만 포함합니다.
+     * 3. 사진/태그는 리뷰 id로 따로 한 번씩 조회합니다.
      */
-    @Query("SELECT DISTINCT r FROM Review r " +
-            "LEFT JOIN FETCH r.reviewImages ri " +
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.MyReviewRow(" +
+            "r.id, t.name, t.gender, t.line, r.description, r.star, r.isDis, r.tagMask, r.createdAt, r.updatedAt) " +
+            "FROM Review r JOIN r.toilet t " +
             "WHERE r.user = :user " +
-            "AND (ri IS NULL OR ri.status = 'APPROVED') " + // ri IS NULL을 포함하여 사진이 없는 리뷰도 조회
+            "AND (NOT EXISTS (SELECT 1 FROM ReviewImage x WHERE x.review = r) " +
+            "     OR EXISTS (SELECT 1 FROM ReviewImage x WHERE x.review = r AND x.status = 'APPROVED')) " +
             "ORDER BY r.createdAt DESC") // 최신순 정렬
-    List<Review> findAllByUser(@Param("user") User user);
+    List<MyReviewRow> findMyReviewRows(@Param("user") User user);
+
+    // 리뷰 목록은 2단계로 조회
+    // - 1단계: 정렬/커서 조건으로 한 페이지의 리뷰 id만 조회 (조인 없음)
+    // - 2단계: id IN (...)으로 리뷰+작성자(태그 마스크 포함), 이미지를 각각 한 번씩 조회해 메모리에서 합침
+    // → User × ReviewImages 카테시안 곱과 태그 N+1 없이 요청당 SQL 수가 일정
+    // - tagMask가 0이 아니면 해당 태그를 모두 가진 리뷰만 (tag_mask & :tagMask = :tagMask)
 
     /**
-     * 1. 최신순 (기본값)
-     * (N+1 해결을 위해 User와 ReviewImages를 한 번에 Join Fetch)
+     * 1. 최신순 (기본값) - 첫 페이지
+     * - handicappedOnly가 true면 장애인 화장실 리뷰(isDis = true)만
+     * - createdAt이 같은 리뷰는 id로 순서를 고정 (커서 기준)
      */
-    @Query("SELECT r FROM Review r " +
-            "LEFT JOIN FETCH r.user " +
-            "LEFT JOIN FETCH r.reviewImages " +
+    @Query("SELECT r.id FROM Review r " +
             "WHERE r.toilet.id = :toiletId " +
-            "ORDER BY r.createdAt DESC") // 최신순 정렬
-    List<Review> findByToiletId_OrderByLatest(@Param("toiletId") Long toiletId);
+            "AND (:handicappedOnly = false OR r.isDis = true) " +
+            "AND (:tagMask = 0 OR bitand(r.tagMask, cast(:tagMask as Integer)) = :tagMask) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Long> findFirstPageIdsOrderByLatest(@Param("toiletId") Long toiletId,
+                                             @Param("handicappedOnly") boolean handicappedOnly,
+                                             @Param("tagMask") int tagMask,
+                                             Pageable pageable);
 
     /**
-     * 2. 별점순
+     * 1. 최신순 - 다음 페이지 (커서: 마지막 리뷰의 createdAt, id)
      */
-    @Query("SELECT r FROM Review r " +
-            "LEFT JOIN FETCH r.user " +
-            "LEFT JOIN FETCH r.reviewImages " +
+    @Query("SELECT r.id FROM Review r " +
             "WHERE r.toilet.id = :toiletId " +
-            "ORDER BY r.star DESC") // 별점순 정렬
-    List<Review> findByToiletId_OrderByRating(@Param("toiletId") Long toiletId);
+            "AND (:handicappedOnly = false OR r.isDis = true) " +
+            "AND (:tagMask = 0 OR bitand(r.tagMask, cast(:tagMask as Integer)) = :tagMask) " +
+            "AND (" +
+            "   r.createdAt < :lastCreatedAt OR " +
+            "   (r.createdAt = :lastCreatedAt AND r.id < :lastId)" +
+            ") " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Long> findNextPageIdsOrderByLatest(@Param("toiletId") Long toiletId,
+                                            @Param("handicappedOnly") boolean handicappedOnly,
+                                            @Param("tagMask") int tagMask,
+                                            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                            @Param("lastId") Long lastId,
+                                            Pageable pageable);
+
+    /**
+     * 2. 별점순 - 첫 페이지
+     * - 별점이 같은 리뷰는 id로 순서를 고정 (커서 기준)
+     */
+    @Query("SELECT r.id FROM Review r " +
+            "WHERE r.toilet.id = :toiletId " +
+            "AND (:tagMask = 0 OR bitand(r.tagMask, cast(:tagMask as Integer)) = :tagMask) " +
+            "ORDER BY r.star DESC, r.id DESC")
+    Slice<Long> findFirstPageIdsOrderByRating(@Param("toiletId") Long toiletId,
+                                             @Param("tagMask") int tagMask,
+                                             Pageable pageable);
+
+    /**
+     * 2. 별점순 - 다음 페이지 (커서: 마지막 리뷰의 star, id)
+     */
+    @Query("SELECT r.id FROM Review r " +
+            "WHERE r.toilet.id = :toiletId " +
+            "AND (:tagMask = 0 OR bitand(r.tagMask, cast(:tagMask as Integer)) = :tagMask) " +
+            "AND (" +
+            "   r.star < :lastStar OR " +
+            "   (r.star = :lastStar AND r.id < :lastId)" +
+            ") " +
+            "ORDER BY r.star DESC, r.id DESC")
+    Slice<Long> findNextPageIdsOrderByRating(@Param("toiletId") Long toiletId,
+                                            @Param("tagMask") int tagMask,
+                                            @Param("lastStar") Double lastStar,
+                                            @Param("lastId") Long lastId,
+                                            Pageable pageable);
+
+    /**
+     * 3. 본문 검색 - 첫 페이지 (최신순)
+     * - description의 FULLTEXT(ngram) 인덱스 사용 (ReviewFullTextIndexInitializer에서 생성)
+     * - MySQL 전용 MATCH ... AGAINST라 네이티브 쿼리
+     */
+    @Query(value = "SELECT r.id FROM review r " +
+            "WHERE r.toilet_id = :toiletId " +
+            "AND MATCH(r.description) AGAINST (:keyword IN BOOLEAN MODE) " +
+            "ORDER BY r.created_at DESC, r.id DESC",
+            nativeQuery = true)
+    Slice<Long> searchFirstPageIds(@Param("toiletId") Long toiletId,
+                                   @Param("keyword") String keyword,
+                                   Pageable pageable);
 
     /**
-     * 3. 장애인 화장실 리뷰만 필터링 (isDis = true)
-     *
+     * 3. 본문 검색 - 다음 페이지 (커서: 마지막 리뷰의 createdAt, id)
      */
-    @Query("SELECT r FROM Review r " +
-            "LEFT JOIN FETCH r.user " +
-            "LEFT JOIN FETCH r.reviewImages " +
-            "WHERE r.toilet.id = :toiletId AND r.isDis = true " +
-            "ORDER BY r.createdAt DESC")
-    List<Review> findByToiletId_HandicappedOnly(@Param("toiletId") Long toiletId);
+    @Query(value = "SELECT r.id FROM review r " +
+            "WHERE r.toilet_id = :toiletId " +
+            "AND MATCH(r.description) AGAINST (:keyword IN BOOLEAN MODE) " +
+            "AND (r.created_at < :lastCreatedAt OR (r.created_at = :lastCreatedAt AND r.id < :lastId)) " +
+            "ORDER BY r.created_at DESC, r.id DESC",
+            nativeQuery = true)
+    Slice<Long> searchNextPageIds(@Param("toiletId") Long toiletId,
+                                  @Param("keyword") String keyword,
+                                  @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                  @Param("lastId") Long lastId,
+                                  Pageable pageable);
+
+    /**
+     * 2단계 - 리뷰 + 작성자 (엔티티 대신 ReviewRow 레코드로 바로 읽음)
+     */
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.ReviewRow(" +
+            "r.id, u.id, u.name, u.profile, r.description, r.star, r.good, r.isDis, r.tagMask, r.createdAt, r.updatedAt) " +
+            "FROM Review r LEFT JOIN r.user u " +
+            "WHERE r.id IN :ids")
+    List<ReviewRow> findRowsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 화장실별 태그 마스크 집계 (태그 개수 컬럼 백필용, 마스크 값별 개수를 세서 비트를 펼침)
+     */
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.ToiletTagMaskCountRow(r.toilet.id, r.tagMask, COUNT(r)) " +
+            "FROM Review r " +
+            "WHERE r.toilet.id IN :toiletIds " +
+            "GROUP BY r.toilet.id, r.tagMask")
+    List<ToiletTagMaskCountRow> countTagMasksByToiletIdIn(@Param("toiletIds") List<Long> toiletIds);
+
+    /**
+     * 화장실별 별점 값 집계 (별점 통계 컬럼 백필용, 별점은 0.5 단위라 값 종류가 적음)
+     */
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.ToiletStarCountRow(r.toilet.id, r.star, COUNT(r)) " +
+            "FROM Review r " +
+            "WHERE r.toilet.id IN :toiletIds " +
+            "GROUP BY r.toilet.id, r.star")
+    List<ToiletStarCountRow> countStarsByToiletIdIn(@Param("toiletIds") List<Long> toiletIds);
+
+    // 리뷰 내보내기 (스트리밍)
+    // - 결과를 List로 모으지 않고 Stream으로 한 행씩 읽음 (반드시 트랜잭션 안에서 소비하고 close)
+    // - MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 행 단위 스트리밍을 함
+    // - 이미지를 LEFT JOIN으로 함께 읽어서 스트림이 열린 동안 같은 커넥션에 다른 쿼리를 보내지 않음
+    //   (스트리밍 중인 커넥션에는 추가 쿼리를 보낼 수 없음) → 같은 리뷰의 행은 연속으로 나오도록 r.id 정렬
+
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.ReviewExportRow(" +
+            "r.id, t.id, t.name, u.id, u.name, r.description, r.star, r.good, r.isDis, r.tagMask, r.createdAt, r.updatedAt, ri.url) " +
+            "FROM Review r JOIN r.toilet t LEFT JOIN r.user u " +
+            "LEFT JOIN r.reviewImages ri ON ri.status = 'APPROVED' " +
+            "WHERE t.id = :toiletId " +
+            "ORDER BY r.id DESC, ri.sortOrder ASC, ri.id ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewExportRow> streamExportRowsByToiletId(@Param("toiletId") Long toiletId);
+
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.ReviewExportRow(" +
+            "r.id, t.id, t.name, u.id, u.name, r.description, r.star, r.good, r.isDis, r.tagMask, r.createdAt, r.updatedAt, ri.url) " +
+            "FROM Review r JOIN r.toilet t JOIN r.user u " +
+            "LEFT JOIN r.reviewImages ri ON ri.status = 'APPROVED' " +
+            "WHERE u.id = :userId " +
+            "ORDER BY r.id DESC, ri.sortOrder ASC, ri.id ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReviewExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
 }
@@ -2,29 +2,32 @@ package hwalibo.toilet.respository.review.image;
 
 import hwalibo.toilet.domain.review.ReviewImage;
 import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.respository.review.projection.PhotoRow;
+import hwalibo.toilet.respository.review.projection.ReviewImageRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewImageQueryRepository extends JpaRepository<ReviewImage,Long> {
     /**
      * 1. 첫 페이지 조회 (커서가 없을 때)
      * - 성별 필터링 추가: 로그인 유저의 성별과 화장실 성별이 일치하는 리뷰만 조회
+     * - 엔티티 대신 PhotoRow 레코드로 필요한 컬럼만 조회
+     * - review/toilet 조인 없이 비정규화 컬럼만 사용 (idx_review_image_gallery 범위 스캔)
      */
-    @Query("SELECT ri FROM ReviewImage ri " +
-            "JOIN ri.review r " +
-            "WHERE r.toilet.id = :toiletId " +
-            "AND r.toilet.gender = :gender " +
-            "AND ri.status='APPROVED'" +
-            "ORDER BY r.createdAt DESC, ri.id DESC")
-    @EntityGraph(attributePaths = {"review", "review.toilet"})
-    Slice<ReviewImage> findFirstPageByToiletId(
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.PhotoRow(ri.id, ri.url, ri.review.id, ri.toiletId, ri.reviewCreatedAt, ri.hasVariants) " +
+            "FROM ReviewImage ri " +
+            "WHERE ri.toiletId = :toiletId " +
+            "AND ri.gender = :gender " +
+            "AND ri.status = 'APPROVED' " +
+            "ORDER BY ri.reviewCreatedAt DESC, ri.id DESC")
+    Slice<PhotoRow> findFirstPageByToiletId(
             @Param("toiletId") Long toiletId,
             @Param("gender") Gender gender,
             Pageable pageable);
@@ -33,18 +36,17 @@ public interface ReviewImageQueryRepository extends JpaRepository<ReviewImage,Lo
      * 2. 다음 페이지 조회 (커서가 있을 때)
      * - 성별 필터링 추가: 로그인 유저의 성별과 화장실 성별이 일치하는 리뷰만 조회
      */
-    @Query("SELECT ri FROM ReviewImage ri " +
-            "JOIN ri.review r " +
-            "WHERE r.toilet.id = :toiletId " +
-            "AND r.toilet.gender = :gender " +
-            "AND ri.status='APPROVED'" +
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.PhotoRow(ri.id, ri.url, ri.review.id, ri.toiletId, ri.reviewCreatedAt, ri.hasVariants) " +
+            "FROM ReviewImage ri " +
+            "WHERE ri.toiletId = :toiletId " +
+            "AND ri.gender = :gender " +
+            "AND ri.status = 'APPROVED' " +
             "AND (" +
-            "   r.createdAt < :lastCreatedAt OR " +
-            "   (r.createdAt = :lastCreatedAt AND ri.id < :lastId)" +
+            "   ri.reviewCreatedAt < :lastCreatedAt OR " +
+            "   (ri.reviewCreatedAt = :lastCreatedAt AND ri.id < :lastId)" +
             ") " +
-            "ORDER BY r.createdAt DESC, ri.id DESC")
-    @EntityGraph(attributePaths = {"review", "review.toilet"})
-    Slice<ReviewImage> findNextPageByToiletId(
+            "ORDER BY ri.reviewCreatedAt DESC, ri.id DESC")
+    Slice<PhotoRow> findNextPageByToiletId(
             @Param("toiletId") Long toiletId,
             @Param("gender") Gender gender,
             @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
@@ -58,8 +60,26 @@ public interface ReviewImageQueryRepository extends JpaRepository<ReviewImage,Lo
     @Query("SELECT ri FROM ReviewImage ri " +
             "JOIN FETCH ri.review r " +
             "JOIN FETCH r.user u " +
-            "LEFT JOIN FETCH r.tag t " +
             "WHERE ri.id = :photoId " +
             "AND ri.status = 'APPROVED'" )
     Optional<ReviewImage> findByIdWithReviewAndDetails(@Param("photoId") Long photoId);
+
+    /**
+     * 리뷰 목록 2단계 - 한 페이지 리뷰들의 이미지를 한 번에 조회
+     */
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.ReviewImageRow(ri.review.id, ri.id, ri.url, ri.hasVariants) " +
+            "FROM ReviewImage ri " +
+            "WHERE ri.review.id IN :reviewIds " +
+            "ORDER BY ri.sortOrder ASC, ri.id ASC")
+    List<ReviewImageRow> findRowsByReviewIdIn(@Param("reviewIds") List<Long> reviewIds);
+
+    /**
+     * 내가 쓴 리뷰 - 승인된 이미지만 한 번에 조회
+     */
+    @Query("SELECT new hwalibo.toilet.respository.review.projection.ReviewImageRow(ri.review.id, ri.id, ri.url, ri.hasVariants) " +
+            "FROM ReviewImage ri " +
+            "WHERE ri.review.id IN :reviewIds " +
+            "AND ri.status = 'APPROVED' " +
+            "ORDER BY ri.sortOrder ASC, ri.id ASC")
+    List<ReviewImageRow> findApprovedRowsByReviewIdIn(@Param("reviewIds") List<Long> reviewIds);
 }
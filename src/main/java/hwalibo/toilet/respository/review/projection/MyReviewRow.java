@@ -0,0 +1,19 @@
+package hwalibo.toilet.respository.review.projection;
+
+import hwalibo.toilet.domain.type.Gender;
+
+import java.time.LocalDateTime;
+
+// 내가 쓴 리뷰 한 행 (리뷰 + 화장실 이름/성별/호선)
+public record MyReviewRow(
+        Long id,
+        String toiletName,
+        Gender gender,
+        Integer line,
+        String description,
+        Double star,
+        boolean isDis,
+        Integer tagMask,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,7 @@
+package hwalibo.toilet.respository.review.projection;
+
+import java.time.LocalDateTime;
+
+// 포토 리뷰 목록 한 행 (reviewCreatedAt은 다음 페이지 커서용)
+public record PhotoRow(Long photoId, String photoUrl, Long reviewId, Long toiletId, LocalDateTime reviewCreatedAt,
+                       boolean hasVariants) {}
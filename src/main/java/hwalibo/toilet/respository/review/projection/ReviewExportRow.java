@@ -0,0 +1,20 @@
+package hwalibo.toilet.respository.review.projection;
+
+import java.time.LocalDateTime;
+
+// 리뷰 내보내기 한 행 (리뷰 + 화장실 + 작성자 + 승인된 이미지 1장, 이미지 수만큼 같은 리뷰가 반복됨)
+public record ReviewExportRow(
+        Long id,
+        Long toiletId,
+        String toiletName,
+        Long userId,
+        String userName,
+        String description,
+        Double star,
+        Integer good,
+        boolean isDis,
+        Integer tagMask,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String imageUrl
+) {}
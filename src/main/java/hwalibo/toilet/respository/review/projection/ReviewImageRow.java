@@ -0,0 +1,4 @@
+package hwalibo.toilet.respository.review.projection;
+
+// 리뷰에 속한 이미지 한 행
+public record ReviewImageRow(Long reviewId, Long imageId, String url, boolean hasVariants) {}
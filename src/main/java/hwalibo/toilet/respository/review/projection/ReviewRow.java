@@ -0,0 +1,18 @@
+package hwalibo.toilet.respository.review.projection;
+
+import java.time.LocalDateTime;
+
+// 리뷰 목록 한 행 (리뷰 + 작성자, 탈퇴한 사용자면 user 필드는 null)
+public record ReviewRow(
+        Long id,
+        Long userId,
+        String userName,
+        String userProfile,
+        String description,
+        Double star,
+        Integer good,
+        boolean isDis,
+        Integer tagMask,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,4 @@
+package hwalibo.toilet.respository.review.projection;
+
+// 화장실별 별점 값 집계 한 행 (화장실 id, 별점, 개수)
+public record ToiletStarCountRow(Long toiletId, Double star, Long count) {}
@@ -0,0 +1,4 @@
+package hwalibo.toilet.respository.review.projection;
+
+// 화장실별 태그 비트마스크 집계 한 행 (화장실 id, 태그 마스크, 개수)
+public record ToiletTagMaskCountRow(Long toiletId, Integer tagMask, Long count) {}
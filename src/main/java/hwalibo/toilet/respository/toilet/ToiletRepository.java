@@ -1,12 +1,26 @@
 package hwalibo.toilet.respository.toilet;
 
 import hwalibo.toilet.domain.toilet.Toilet;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ToiletRepository extends JpaRepository<Toilet, Long> {
     List<Toilet> findByNameContaining(String name);
+
+    // 태그 개수 백필 대상 (컬럼 추가 전부터 있던 화장실)
+    List<Toilet> findAllByTagCountsIsNull();
+
+    // 별점 통계 백필 대상
+    List<Toilet> findAllByStarHalfSumIsNull();
+
+    // 리뷰 작성/수정/삭제 시 별점·태그 통계를 갱신하기 위한 행 잠금 (동시 갱신 유실 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Toilet t WHERE t.id = :id")
+    Optional<Toilet> findByIdForUpdate(@Param("id") Long id);
 }
\ No newline at end of file
@@ -8,8 +8,10 @@ import hwalibo.toilet.exception.auth.InvalidTokenException;
 import hwalibo.toilet.exception.auth.TokenNotFoundException;
 import hwalibo.toilet.exception.auth.UnauthorizedException;
 import hwalibo.toilet.respository.user.UserRepository;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
     private final NaverAuthService naverAuthService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //토큰 재발급
     public TokenResponse reissueTokens(String accessToken, String refreshToken) {
@@ -87,6 +90,7 @@ public class AuthService {
 
         // 2. 익명화 및 Soft delete를 엔티티 내에서 한번에 처리
         user.withdrawAndAnonymize();
+        eventPublisher.publishEvent(ReviewChangedEvent.allToilets());
 
         // 3. Access Token 블랙리스트 등록
         if (accessToken != null) {
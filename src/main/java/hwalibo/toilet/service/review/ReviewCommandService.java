@@ -1,22 +1,38 @@
 package hwalibo.toilet.service.review;
 
 import hwalibo.toilet.domain.review.Review;
+import hwalibo.toilet.domain.review.ReviewImage;
 import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Tag;
 import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.exception.review.ReviewNotFoundException;
 import hwalibo.toilet.respository.review.ReviewRepository;
+import hwalibo.toilet.respository.toilet.ToiletRepository;
 import hwalibo.toilet.dto.review.request.ReviewUpdateRequest;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
+import hwalibo.toilet.service.s3.S3BatchDeleteService;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
 import hwalibo.toilet.service.user.UserRankService;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewCommandService {
 
     private final ReviewRepository reviewRepository;
+    private final ToiletRepository toiletRepository;
     private final UserRankService userRankService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final S3BatchDeleteService s3BatchDeleteService;
 
     @Transactional
     public void deleteMyReview(User loginUser, Long reviewId) {
@@ -32,7 +48,7 @@ public class ReviewCommandService {
         }
 
         User author = review.getUser();
-        Toilet toilet = review.getToilet();
+        Toilet toilet = lockToilet(review);
 
         if (author != null) {
             author.removeReview();
@@ -40,10 +56,28 @@ public class ReviewCommandService {
         if (toilet != null) {
             double star = review.getStar() != null ? review.getStar() : 0.0;
             toilet.removeReviewStats(star);
+            toilet.updateTagCounts(review.getTag(), null);
+            eventPublisher.publishEvent(ToiletReviewStatsChangedEvent.of(toilet));
+            eventPublisher.publishEvent(ReviewChangedEvent.of(toilet.getId()));
+        }
+
+        // 리뷰와 함께 지워지는 이미지의 S3 파일(변형본 포함)은 커밋 후 일괄 삭제
+        List<String> imageUrls = new ArrayList<>();
+        for (ReviewImage image : review.getReviewImages()) {
+            imageUrls.addAll(image.getAllUrls());
         }
 
         reviewRepository.delete(review);
         userRankService.evictUserRate(loginUser.getId());
+
+        if (!imageUrls.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    s3BatchDeleteService.deleteAllAsync(imageUrls);
+                }
+            });
+        }
     }
 
     @Transactional
@@ -57,6 +91,9 @@ public class ReviewCommandService {
             throw new SecurityException("본인이 작성한 리뷰만 수정할 수 있습니다.");
         }
 
+        Toilet toilet = lockToilet(review);
+        double oldStar = review.getStar() != null ? review.getStar() : 0.0;
+
         try {
             if (request.getStar() != null) {
                 java.lang.reflect.Field f = Review.class.getDeclaredField("star");
@@ -69,16 +106,27 @@ public class ReviewCommandService {
                 f.set(review, request.getDescription());
             }
             if (request.getTag() != null) {
-                java.lang.reflect.Field f = Review.class.getDeclaredField("tag");
-                f.setAccessible(true);
-                f.set(review, request.getTag());
+                List<Tag> oldTags = review.getTag();
+                review.updateTags(request.getTag());
+                toilet.updateTagCounts(oldTags, review.getTag());
             }
             review.updateIsDis(request.isDis());
         } catch (Exception e) {
             throw new IllegalArgumentException("업데이트 실패: " + e.getMessage());
         }
+        if (request.getStar() != null) {
+            toilet.changeReviewStar(oldStar, request.getStar());
+            eventPublisher.publishEvent(ToiletReviewStatsChangedEvent.of(toilet));
+        }
+        eventPublisher.publishEvent(ReviewChangedEvent.of(toilet.getId()));
         userRankService.evictUserRate(loginUser.getId());
         return review.getId();
     }
-}
 
+    // 리뷰가 달린 화장실을 행 잠금으로 조회 (별점/태그 통계 동시 갱신 유실 방지)
+    // 지연 로딩 프록시가 아직 초기화되지 않은 상태에서 호출해야 잠금과 함께 최신 값을 읽음
+    private Toilet lockToilet(Review review) {
+        return toiletRepository.findByIdForUpdate(review.getToilet().getId())
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 화장실입니다."));
+    }
+}
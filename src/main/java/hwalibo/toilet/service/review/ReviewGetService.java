@@ -1,29 +1,40 @@
 package hwalibo.toilet.service.review;
 
-import hwalibo.toilet.domain.review.Review;
 import hwalibo.toilet.domain.review.ReviewImage;
 import hwalibo.toilet.domain.toilet.Toilet;
 import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.domain.type.ImageVariant;
 import hwalibo.toilet.domain.type.SortType;
+import hwalibo.toilet.domain.type.Tag;
 import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.dto.review.photo.response.PhotoReviewDetailResponse;
 import hwalibo.toilet.dto.review.photo.response.PhotoReviewListResponse;
 import hwalibo.toilet.dto.review.response.ReviewListResponse;
 import hwalibo.toilet.dto.review.response.ReviewResponse;
 import hwalibo.toilet.respository.review.ReviewQueryRepository;
+import hwalibo.toilet.respository.review.projection.PhotoRow;
+import hwalibo.toilet.respository.review.projection.ReviewImageRow;
+import hwalibo.toilet.respository.review.projection.ReviewRow;
 import hwalibo.toilet.respository.review.image.ReviewImageQueryRepository;
 import hwalibo.toilet.respository.toilet.ToiletRepository;
+import hwalibo.toilet.service.review.cache.ReviewListCache;
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletSpatialIndex;
 import hwalibo.toilet.utils.CursorUtils;
+import hwalibo.toilet.utils.TagMaskUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -31,47 +42,181 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ReviewGetService {
+    // 리뷰 목록 한 페이지 최대 크기
+    private static final int MAX_REVIEW_PAGE_SIZE = 50;
+    // 리뷰 검색어 최소 길이 (ngram 토큰 크기 2와 맞춤)
+    private static final int MIN_SEARCH_LENGTH = 2;
+
     private final ToiletRepository toiletRepository;
     private final ReviewQueryRepository reviewQueryRepository;
     private final ReviewImageQueryRepository reviewImageQueryRepository;
+    private final ToiletSpatialIndex toiletSpatialIndex;
+    private final ReviewListCache reviewListCache;
 
 
-    @Transactional(readOnly = true)
-    public ReviewListResponse getReviewList(User loginUser, Long toiletId, SortType sortType) {
+    // 캐시에 있으면 DB를 전혀 거치지 않도록 트랜잭션을 미리 열지 않음 (각 조회가 자체 트랜잭션 사용)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ReviewListResponse getReviewList(User loginUser, Long toiletId, SortType sortType, List<Tag> tags,
+                                            String nextCursor, int size) {
         if (loginUser == null) {
             throw new SecurityException("유효하지 않은 토큰입니다.");
         }
+        if (size <= 0 || size > MAX_REVIEW_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_REVIEW_PAGE_SIZE + " 이하여야 합니다.");
+        }
 
-        Toilet toilet = toiletRepository.findById(toiletId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 화장실입니다."));
+        // 같은 성별인지 여부 (응답은 사용자가 아니라 이 값에만 의존하므로 캐시 키에 포함)
+        boolean canViewPhoto = Objects.equals(loginUser.getGender(), findToiletGender(toiletId));
 
-        // 같은 성별인지 여부
-        boolean canViewPhoto = Objects.equals(loginUser.getGender(), toilet.getGender());
+        boolean firstPage = nextCursor == null || nextCursor.isBlank();
+        String cursor = firstPage ? null : nextCursor;
+        // 태그 필터는 비트마스크 하나로 (0이면 필터 없음)
+        int tagMask = TagMaskUtils.toMask(tags);
 
-        List<Review> reviews;
-        switch (sortType) {
-            case RATING:
-                //별점순 정렬
-                reviews = reviewQueryRepository.findByToiletId_OrderByRating(toiletId);
-                break;
-            case HANDICAPPED:
-                //장애인 화장실 리뷰만 보기
-                reviews = reviewQueryRepository.findByToiletId_HandicappedOnly(toiletId);
-            case LATEST:
-            default:
-                //toiletId로 리뷰 찾기( 최신순 정렬)
-                reviews = reviewQueryRepository.findByToiletId_OrderByLatest(toiletId);
+        var cached = reviewListCache.get(toiletId, sortType, tagMask, canViewPhoto, cursor, size);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long stamp = reviewListCache.stamp(toiletId);
+        ReviewListResponse response = loadReviewList(toiletId, sortType, tagMask, canViewPhoto, cursor, size);
+        reviewListCache.put(toiletId, sortType, tagMask, canViewPhoto, cursor, size, response, stamp);
+        return response;
+    }
 
+    // 화장실 성별은 메모리 인덱스에서 먼저 찾고, 인덱스에 없을 때만 DB 조회
+    private Gender findToiletGender(Long toiletId) {
+        return toiletSpatialIndex.findById(toiletId)
+                .map(IndexedToilet::getGender)
+                .orElseGet(() -> toiletRepository.findById(toiletId)
+                        .map(Toilet::getGender)
+                        .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 화장실입니다.")));
+    }
+
+    private ReviewListResponse loadReviewList(Long toiletId, SortType sortType, int tagMask, boolean canViewPhoto,
+                                              String nextCursor, int size) {
+        boolean firstPage = nextCursor == null;
+        Pageable pageable = PageRequest.of(0, size);
+
+        // 1단계: 페이지에 해당하는 리뷰 id만 조회
+        Slice<Long> idSlice;
+        try {
+            switch (sortType) {
+                case RATING:
+                    //별점순 정렬 (별점이 같으면 id 역순)
+                    if (firstPage) {
+                        idSlice = reviewQueryRepository.findFirstPageIdsOrderByRating(toiletId, tagMask, pageable);
+                    } else {
+                        var c = CursorUtils.decodeStar(nextCursor);
+                        idSlice = reviewQueryRepository.findNextPageIdsOrderByRating(toiletId, tagMask, c.star(), c.id(), pageable);
+                    }
+                    break;
+                case HANDICAPPED:
+                case LATEST:
+                default:
+                    //최신순 정렬 (HANDICAPPED면 장애인 화장실 리뷰만)
+                    boolean handicappedOnly = sortType == SortType.HANDICAPPED;
+                    if (firstPage) {
+                        idSlice = reviewQueryRepository.findFirstPageIdsOrderByLatest(toiletId, handicappedOnly, tagMask, pageable);
+                    } else {
+                        var c = CursorUtils.decode(nextCursor);
+                        idSlice = reviewQueryRepository.findNextPageIdsOrderByLatest(toiletId, handicappedOnly, tagMask, c.createdAt(), c.id(), pageable);
+                    }
+            }
+        } catch (IllegalArgumentException e) {
+            // 예: Base64 디코딩 실패 또는 형식 오류
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.");
         }
-        if (reviews.isEmpty()) {
+
+        // 태그 필터로 걸러진 경우는 리뷰가 없는 화장실과 구분해서 빈 목록으로 응답
+        if (idSlice.getContent().isEmpty() && firstPage && tagMask == 0) {
             throw new EntityNotFoundException("해당 화장실에 리뷰가 없습니다.");
         }
 
+        return toListResponse(idSlice, canViewPhoto, last -> sortType == SortType.RATING
+                ? CursorUtils.encodeStar(last.star(), last.id())
+                : CursorUtils.encode(last.createdAt(), last.id()));
+    }
+
+    /**
+     * 특정 화장실 리뷰 본문 검색 (최신순 keyset 페이지)
+     * - description의 FULLTEXT(ngram) 인덱스로 후보를 찾고, 2단계 로딩은 리뷰 목록과 같음
+     */
+    @Transactional(readOnly = true)
+    public ReviewListResponse searchReviews(User loginUser, Long toiletId, String query, String nextCursor, int size) {
+        if (loginUser == null) {
+            throw new SecurityException("유효하지 않은 토큰입니다.");
+        }
+        if (size <= 0 || size > MAX_REVIEW_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_REVIEW_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        String keyword = toFullTextKeyword(query);
+        if (keyword.length() < MIN_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MIN_SEARCH_LENGTH + "글자 이상이어야 합니다.");
+        }
+
+        boolean canViewPhoto = Objects.equals(loginUser.getGender(), findToiletGender(toiletId));
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<Long> idSlice;
+        if (nextCursor == null || nextCursor.isBlank()) {
+            idSlice = reviewQueryRepository.searchFirstPageIds(toiletId, keyword, pageable);
+        } else {
+            CursorUtils.Cursor c;
+            try {
+                c = CursorUtils.decode(nextCursor);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            idSlice = reviewQueryRepository.searchNextPageIds(toiletId, keyword, c.createdAt(), c.id(), pageable);
+        }
+
+        return toListResponse(idSlice, canViewPhoto, last -> CursorUtils.encode(last.createdAt(), last.id()));
+    }
+
+    // 2단계: 리뷰+작성자(태그 마스크 포함), 이미지를 id IN (...)으로 한 번씩 조회 (엔티티 대신 레코드로)
+    private ReviewListResponse toListResponse(Slice<Long> idSlice, boolean canViewPhoto, Function<ReviewRow, String> cursorOf) {
+        List<Long> ids = idSlice.getContent();
+        if (ids.isEmpty()) {
+            return new ReviewListResponse(List.of(), false, null);
+        }
+
+        List<ReviewRow> reviews = loadInOrder(ids);
+        Map<Long, List<String>> photosByReview = canViewPhoto ? loadPhotoUrls(ids) : Map.of();
+
         List<ReviewResponse> responseList = reviews.stream()
-                .map(review -> ReviewResponse.from(review, canViewPhoto))
+                .map(review -> ReviewResponse.of(
+                        review,
+                        TagMaskUtils.toTagNames(review.tagMask()),
+                        photosByReview.getOrDefault(review.id(), List.of())))
+                .collect(Collectors.toList());
+
+        String newCursor = idSlice.hasNext() ? cursorOf.apply(reviews.get(reviews.size() - 1)) : null;
+        return new ReviewListResponse(responseList, idSlice.hasNext(), newCursor);
+    }
+
+    // BOOLEAN MODE 연산자(+ - < > ( ) ~ * " @)를 공백으로 바꿔 검색어를 그대로 찾도록 함
+    private static String toFullTextKeyword(String query) {
+        if (query == null) return "";
+        return query.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+    }
+
+    // id 순서(정렬 결과)를 유지한 채 리뷰+작성자 로딩
+    private List<ReviewRow> loadInOrder(List<Long> ids) {
+        Map<Long, ReviewRow> byId = reviewQueryRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ReviewRow::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+    }
 
-        return new ReviewListResponse(responseList);
+    // 리뷰 id → 사진 URL 목록 (sortOrder 순, 목록용 중간 크기)
+    private Map<Long, List<String>> loadPhotoUrls(List<Long> reviewIds) {
+        return reviewImageQueryRepository.findRowsByReviewIdIn(reviewIds).stream()
+                .collect(Collectors.groupingBy(
+                        ReviewImageRow::reviewId,
+                        Collectors.mapping(img -> ImageVariant.MEDIUM.resolve(img.url(), img.hasVariants()), Collectors.toList())));
     }
 
     @Transactional(readOnly = true)
@@ -85,7 +230,7 @@ public class ReviewGetService {
 
         Pageable pageable = PageRequest.of(0, size);
 
-        Slice<ReviewImage> imageSlice;
+        Slice<PhotoRow> imageSlice;
         if (nextCursor == null || nextCursor.isBlank()) {
             //첫 사진 조회
             //userGender를 두 번째 파라미터로 전달
@@ -107,14 +252,14 @@ public class ReviewGetService {
 
         if (imageSlice.hasNext()) {
             // getContent()로 실제 List를 가져오기
-            List<ReviewImage> content = imageSlice.getContent();
+            List<PhotoRow> content = imageSlice.getContent();
 
-            ReviewImage lastElement = content.get(content.size() - 1); // 마지막 review Image 가져오기
+            PhotoRow lastElement = content.get(content.size() - 1); // 마지막 review Image 가져오기
 
-            newCursor = CursorUtils.encode(lastElement.getReview().getCreatedAt(), lastElement.getId());
+            newCursor = CursorUtils.encode(lastElement.reviewCreatedAt(), lastElement.photoId());
         }
 
-        return PhotoReviewListResponse.fromReviews(imageSlice, newCursor);
+        return PhotoReviewListResponse.fromRows(imageSlice, newCursor);
     }
 
     @Transactional(readOnly = true)
@@ -141,6 +286,6 @@ public class ReviewGetService {
             throw new SecurityException("접근 권한이 없습니다. 해당 성별의 리뷰 사진이 아닙니다.");
         }
 
-        return PhotoReviewDetailResponse.of(reviewImage.getUrl(),reviewImage.getReview());
+        return PhotoReviewDetailResponse.of(reviewImage.urlFor(ImageVariant.FULL),reviewImage.getReview());
     }
 }
\ No newline at end of file
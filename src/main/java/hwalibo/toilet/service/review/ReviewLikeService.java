@@ -8,7 +8,9 @@ import hwalibo.toilet.exception.review.ReviewNotFoundException;
 import hwalibo.toilet.exception.review.NotLikedException;
 import hwalibo.toilet.respository.likes.LikesRepository;
 import hwalibo.toilet.respository.review.ReviewRepository;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class ReviewLikeService {
 
     private final ReviewRepository reviewRepository;
     private final LikesRepository likesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void like(User loginUser, Long toiletId, Long reviewId) {
@@ -51,6 +54,7 @@ public class ReviewLikeService {
         } catch (Exception ignored) {
             // 카운트 필드가 없거나 접근 실패 시 무시 (핵심 로직은 Likes 테이블 저장)
         }
+        eventPublisher.publishEvent(ReviewChangedEvent.of(toiletId));
     }
 
     @Transactional
@@ -79,5 +83,6 @@ public class ReviewLikeService {
                 good.set(review, cur - 1);
             }
         } catch (Exception ignored) {}
+        eventPublisher.publishEvent(ReviewChangedEvent.of(toiletId));
     }
 }
\ No newline at end of file
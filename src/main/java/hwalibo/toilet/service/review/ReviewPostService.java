@@ -14,14 +14,17 @@ import hwalibo.toilet.respository.review.image.ReviewImageQueryRepository;
 import hwalibo.toilet.respository.review.ReviewRepository;
 import hwalibo.toilet.respository.toilet.ToiletRepository;
 import hwalibo.toilet.respository.user.UserRepository;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
 import hwalibo.toilet.service.review.googlevision.GoogleVisionValidationService;
 import hwalibo.toilet.service.s3.S3UploadService;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
 import hwalibo.toilet.service.user.UserRankService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -45,12 +48,13 @@ public class ReviewPostService {
     private final ToiletRepository toiletRepository;
     private final GoogleVisionValidationService googleVisionValidationService;
     private final UserRankService userRankService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReviewCreateResponse uploadReview(User loginUser, ReviewCreateRequest request, Long toiletId) {
 
-        // 1. 화장실 엔티티 조회
-        Toilet toilet = toiletRepository.findById(toiletId)
+        // 1. 화장실 엔티티 조회 (별점/태그 통계를 갱신하므로 행 잠금)
+        Toilet toilet = toiletRepository.findByIdForUpdate(toiletId)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 화장실입니다."));
 
         // DB에서 최신 유저 정보 조회 (Gender 포함)
@@ -76,6 +80,9 @@ public class ReviewPostService {
 
         // 7. toilet의 Reviewstats 최신화
         toilet.updateReviewStats(review.getStar());
+        toilet.updateTagCounts(null, review.getTag());
+        eventPublisher.publishEvent(ToiletReviewStatsChangedEvent.of(toilet));
+        eventPublisher.publishEvent(ReviewChangedEvent.of(toilet.getId()));
 
         userRankService.evictUserRate(loginUser.getId());
 
@@ -148,6 +155,7 @@ public class ReviewPostService {
 
         // 7. db에 이미지 저장
         reviewImageQueryRepository.saveAll(imagesToSave);
+        eventPublisher.publishEvent(ReviewChangedEvent.of(review.getToilet().getId()));
 
         // 8. 저장된 이미지들을 비동기 검증 서비스에 전달 (트랜잭션 커밋 후 실행)
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -0,0 +1,109 @@
+package hwalibo.toilet.service.review.cache;
+
+import hwalibo.toilet.domain.type.SortType;
+import hwalibo.toilet.dto.review.response.ReviewListResponse;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 화장실 리뷰 목록 응답 공유 캐시
+ * - 응답은 (화장실, 정렬, 태그 필터, 같은 성별 여부, 커서, 크기)에만 의존하므로 사용자 간에 그대로 공유
+ * - 화장실별 묶음(bucket)으로 보관해서 리뷰 변경 시 해당 화장실 묶음만 통째로 제거
+ * - 무효화마다 세대(generation)를 올리고, 조회 시작 시점의 세대와 달라졌으면 저장하지 않음
+ *   (커밋 직전 DB에서 읽은 옛 응답이 무효화 이후에 캐시에 들어가는 경쟁을 막음)
+ */
+@Slf4j
+@Component
+public class ReviewListCache {
+
+    // 캐시에 올려둘 최대 화장실 수 / 화장실당 최대 페이지 수
+    private static final int MAX_TOILETS = 2_000;
+    private static final int MAX_PAGES_PER_TOILET = 64;
+
+    private final Map<Long, Map<PageKey, Entry>> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long globalGeneration;
+
+    @Value("${review-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 조회를 시작하기 전에 받아 두는 세대 값 (put 때 그대로 넘겨야 함)
+     */
+    public long stamp(Long toiletId) {
+        return Math.max(globalGeneration, generations.getOrDefault(toiletId, 0L));
+    }
+
+    public Optional<ReviewListResponse> get(Long toiletId, SortType sortType, int tagMask, boolean canViewPhoto,
+                                            String cursor, int size) {
+        Map<PageKey, Entry> bucket = buckets.get(toiletId);
+        if (bucket == null) return Optional.empty();
+
+        PageKey key = new PageKey(sortType, tagMask, canViewPhoto, cursor, size);
+        Entry entry = bucket.get(key);
+        if (entry == null) return Optional.empty();
+        if (entry.isExpired(System.nanoTime())) {
+            bucket.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.response());
+    }
+
+    public void put(Long toiletId, SortType sortType, int tagMask, boolean canViewPhoto, String cursor, int size,
+                    ReviewListResponse response, long stamp) {
+        if (stamp != stamp(toiletId)) return; // 조회 도중 리뷰가 바뀜
+
+        Map<PageKey, Entry> bucket = buckets.get(toiletId);
+        if (bucket == null) {
+            if (buckets.size() >= MAX_TOILETS && !purgeExpired()) return;
+            bucket = buckets.computeIfAbsent(toiletId, id -> new ConcurrentHashMap<>());
+        }
+        if (bucket.size() >= MAX_PAGES_PER_TOILET) return;
+
+        bucket.put(new PageKey(sortType, tagMask, canViewPhoto, cursor, size),
+                new Entry(response, System.nanoTime() + ttlSeconds * 1_000_000_000L));
+
+        // put과 무효화가 겹쳤으면 방금 넣은 묶음을 다시 비움
+        if (stamp != stamp(toiletId)) {
+            buckets.remove(toiletId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.toiletId() == null) {
+            globalGeneration = sequence.incrementAndGet();
+            buckets.clear();
+            log.info("리뷰 목록 캐시 전체 무효화");
+            return;
+        }
+        generations.put(event.toiletId(), sequence.incrementAndGet());
+        buckets.remove(event.toiletId());
+    }
+
+    // 만료된 항목/빈 묶음을 정리하고, 자리가 생겼으면 true
+    private boolean purgeExpired() {
+        long now = System.nanoTime();
+        buckets.values().forEach(bucket -> bucket.values().removeIf(entry -> entry.isExpired(now)));
+        buckets.values().removeIf(Map::isEmpty);
+        return buckets.size() < MAX_TOILETS;
+    }
+
+    private record PageKey(SortType sortType, int tagMask, boolean canViewPhoto, String cursor, int size) {}
+
+    private record Entry(ReviewListResponse response, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
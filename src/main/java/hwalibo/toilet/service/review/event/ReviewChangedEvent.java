@@ -0,0 +1,16 @@
+package hwalibo.toilet.service.review.event;
+
+/**
+ * 화장실의 리뷰 목록 응답이 달라지는 변경(리뷰 작성/수정/삭제, 좋아요, 이미지 추가/검수/삭제)이 있을 때 발행
+ * - toiletId가 null이면 모든 화장실이 대상 (닉네임 변경, 회원 탈퇴처럼 작성자 정보가 바뀐 경우)
+ */
+public record ReviewChangedEvent(Long toiletId) {
+
+    public static ReviewChangedEvent of(Long toiletId) {
+        return new ReviewChangedEvent(toiletId);
+    }
+
+    public static ReviewChangedEvent allToilets() {
+        return new ReviewChangedEvent(null);
+    }
+}
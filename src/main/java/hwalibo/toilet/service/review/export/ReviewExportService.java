@@ -0,0 +1,162 @@
+package hwalibo.toilet.service.review.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hwalibo.toilet.domain.user.User;
+import hwalibo.toilet.respository.review.ReviewQueryRepository;
+import hwalibo.toilet.respository.review.projection.ReviewExportRow;
+import hwalibo.toilet.respository.toilet.ToiletRepository;
+import hwalibo.toilet.utils.TagMaskUtils;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 리뷰 전체 내보내기 (JSON 스트리밍)
+ * - Stream 리포지토리 메서드로 한 행씩 읽고 JsonGenerator로 바로 써서, 결과 크기와 무관하게 메모리 사용량이 일정
+ * - 응답 본문은 컨트롤러가 반환한 뒤 별도 스레드에서 쓰이므로 트랜잭션을 TransactionTemplate으로 직접 염
+ *   → 읽기 전용 트랜잭션이 다운로드가 끝날 때까지 커넥션 풀의 커넥션 하나를 계속 점유함
+ *     (느린 클라이언트도 그대로 커넥션을 잡고 있으므로 동시 내보내기 수만큼 풀 여유가 필요)
+ * - 비동기 요청 제한 시간(spring.mvc.async.request-timeout, 10분)을 넘기면 이미 200이 나간 뒤라
+ *   응답이 중간에서 끊김 → 트랜잭션 제한 시간도 같은 값으로 맞춰 DB 쪽도 함께 정리
+ * - 응답 모양은 ApiResponse와 같음 ({"success", "code", "message", "data": [...]})
+ */
+@Slf4j
+@Service
+public class ReviewExportService {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ReviewQueryRepository reviewQueryRepository;
+    private final ToiletRepository toiletRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReviewExportService(ReviewQueryRepository reviewQueryRepository,
+                               ToiletRepository toiletRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${spring.mvc.async.request-timeout:10m}") Duration asyncTimeout) {
+        this.reviewQueryRepository = reviewQueryRepository;
+        this.toiletRepository = toiletRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) asyncTimeout.toSeconds());
+    }
+
+    // 관리자용: 특정 화장실의 리뷰 전체
+    public StreamingResponseBody exportToiletReviews(Long toiletId) {
+        if (!toiletRepository.existsById(toiletId)) {
+            throw new EntityNotFoundException("존재하지 않는 화장실입니다.");
+        }
+        return out -> write(out, "화장실 리뷰 내보내기 성공",
+                () -> reviewQueryRepository.streamExportRowsByToiletId(toiletId));
+    }
+
+    // 내가 쓴 리뷰 전체
+    public StreamingResponseBody exportMyReviews(User loginUser) {
+        if (loginUser == null) {
+            throw new SecurityException("유효하지 않은 토큰입니다.");
+        }
+        Long userId = loginUser.getId();
+        return out -> write(out, "내 리뷰 내보내기 성공",
+                () -> reviewQueryRepository.streamExportRowsByUserId(userId));
+    }
+
+    private void write(OutputStream out, String message, Supplier<Stream<ReviewExportRow>> rows) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ReviewExportRow> stream = rows.get();
+                 JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                gen.writeStartObject();
+                gen.writeBooleanField("success", true);
+                gen.writeNumberField("code", 200);
+                gen.writeStringField("message", message);
+                gen.writeArrayFieldStart("data");
+                int count = writeReviews(gen, stream.iterator());
+                gen.writeEndArray();
+                gen.writeEndObject();
+                log.info("리뷰 내보내기 완료: {}건", count);
+            } catch (IOException e) {
+                // 클라이언트가 중간에 연결을 끊은 경우 등 (이미 응답이 시작돼서 상태 코드는 바꿀 수 없음)
+                throw new UncheckedIOException("리뷰 내보내기 중 응답 쓰기 실패", e);
+            }
+        });
+    }
+
+    // 같은 리뷰의 행(이미지 수만큼 반복)은 연속으로 오므로 id가 바뀔 때마다 리뷰 하나를 닫음
+    private int writeReviews(JsonGenerator gen, Iterator<ReviewExportRow> rows) throws IOException {
+        int count = 0;
+        Long currentId = null;
+        while (rows.hasNext()) {
+            ReviewExportRow row = rows.next();
+            if (!row.id().equals(currentId)) {
+                if (currentId != null) {
+                    endReview(gen);
+                }
+                startReview(gen, row);
+                currentId = row.id();
+                count++;
+            }
+            if (row.imageUrl() != null) {
+                gen.writeString(row.imageUrl());
+            }
+        }
+        if (currentId != null) {
+            endReview(gen);
+        }
+        return count;
+    }
+
+    private void startReview(JsonGenerator gen, ReviewExportRow row) throws IOException {
+        boolean withdrawn = row.userId() == null;
+
+        gen.writeStartObject();
+        gen.writeNumberField("id", row.id());
+        gen.writeNumberField("toiletId", row.toiletId());
+        gen.writeStringField("toiletName", row.toiletName());
+        if (withdrawn) gen.writeNullField("userId");
+        else gen.writeNumberField("userId", row.userId());
+        gen.writeStringField("userName", withdrawn ? "탈퇴한 사용자" : row.userName());
+        gen.writeStringField("description", row.description());
+        if (row.star() == null) gen.writeNullField("star");
+        else gen.writeNumberField("star", row.star());
+        gen.writeNumberField("good", row.good() != null ? row.good() : 0);
+        gen.writeBooleanField("isDis", row.isDis());
+        gen.writeStringField("createdAt", format(row.createdAt()));
+        gen.writeStringField("updatedAt", format(row.updatedAt()));
+
+        gen.writeArrayFieldStart("tag");
+        for (String tag : TagMaskUtils.toTagNames(row.tagMask())) {
+            gen.writeString(tag);
+        }
+        gen.writeEndArray();
+
+        // 이미지 URL은 이어지는 행에서 채움
+        gen.writeArrayFieldStart("photoUrl");
+    }
+
+    private void endReview(JsonGenerator gen) throws IOException {
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DATE_TIME) : null;
+    }
+}
@@ -4,14 +4,18 @@ import com.google.cloud.vision.v1.*;
 import com.google.protobuf.ByteString;
 import hwalibo.toilet.domain.review.ReviewImage;
 import hwalibo.toilet.respository.review.image.ReviewImageQueryRepository;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
+import hwalibo.toilet.service.review.image.ReviewImageVariantService;
 import hwalibo.toilet.service.s3.S3DownloadService;
 import hwalibo.toilet.service.s3.S3UploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -27,12 +31,16 @@ public class GoogleVisionValidationService {
     private final S3DownloadService s3DownloadService;
     private final ImageAnnotatorClient imageAnnotatorClient;
     private final S3UploadService s3UploadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewImageVariantService reviewImageVariantService;
+    private final TransactionTemplate transactionTemplate;
 
     // 리사이징 기준 크기 (640px이면 분석에 충분)
     private static final int TARGET_SIZE = 640;
 
+    // 다운로드/Vision 호출/변형본 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고,
+    // 결과 반영(updateImageStatus)만 짧은 트랜잭션으로 처리
     @Async
-    @Transactional
     public void validateImage(Long reviewImageId, String imageUrl) {
         // [로그 추가] 비동기 작업 시작과 ID 기록
         log.info("✅ [VISION_START] 이미지 검증 비동기 작업 시작. ID: {}", reviewImageId);
@@ -53,9 +61,15 @@ public class GoogleVisionValidationService {
             String result = validateWithGoogleVision(resizedBytes); // result가 "APPROVED" 또는 "REJECTED"라고 가정
             log.info("➡️ [VISION_STEP_3] Google Vision API 응답 수신. ID: {}, Result: {}", reviewImageId, result);
 
-            // 4. 결과 저장
-            log.info("➡️ [VISION_STEP_4] DB 상태 업데이트 시도... ID: {}", reviewImageId);
-            updateImageStatus(reviewImageId, result);
+            // 4. 승인된 이미지는 썸네일/중간/전체 변형본 생성 (이미 받은 원본 바이트 재사용)
+            if (isValid(result)) {
+                log.info("➡️ [VISION_STEP_4] 이미지 변형본 생성 시도... ID: {}", reviewImageId);
+            }
+            boolean hasVariants = isValid(result) && reviewImageVariantService.createVariants(imageUrl, originalBytes);
+
+            // 5. 결과 저장
+            log.info("➡️ [VISION_STEP_5] DB 상태 업데이트 시도... ID: {}", reviewImageId);
+            transactionTemplate.executeWithoutResult(status -> updateImageStatus(reviewImageId, result, hasVariants));
             log.info("✅ [VISION_SUCCESS] 이미지 검증 및 DB 업데이트 완료. ID: {}", reviewImageId);
 
         } catch (Exception e) {
@@ -65,7 +79,7 @@ public class GoogleVisionValidationService {
             // 비동기 실패 시, DB 상태를 'REJECTED' 또는 'ERROR'로 업데이트
             try {
                 log.warn("⚠️ [VISION_FAIL_UPDATE] 검증 실패로 DB 상태를 REJECTED로 변경 시도. ID: {}", reviewImageId);
-                updateImageStatus(reviewImageId, "REJECTED"); // 또는 "ERROR" 상태
+                transactionTemplate.executeWithoutResult(status -> updateImageStatus(reviewImageId, "REJECTED")); // 또는 "ERROR" 상태
             } catch (Exception updateException) {
                 log.error("❌ [VISION_PANIC] 실패 상태 DB 업데이트조차 실패함. ID: {}", reviewImageId, updateException);
             }
@@ -227,6 +241,11 @@ public class GoogleVisionValidationService {
      */
     @Transactional
     public void updateImageStatus(Long reviewImageId, String validationResult) {
+        updateImageStatus(reviewImageId, validationResult, false);
+    }
+
+    @Transactional
+    public void updateImageStatus(Long reviewImageId, String validationResult, boolean hasVariants) {
         ReviewImage image = reviewImageQueryRepository.findById(reviewImageId)
                 .orElse(null);
 
@@ -235,14 +254,22 @@ public class GoogleVisionValidationService {
         String imageUrl = image.getUrl();
 
         // "VALID" 인 경우 승인, 그 외에는 거부 (필요하면 거부사유 저장 컬럼 추가)
-        if (validationResult != null && "VALID".equalsIgnoreCase(validationResult.trim())) {
+        if (isValid(validationResult)) {
             image.approve();
+            if (hasVariants) {
+                image.markVariantsReady();
+            }
         }else{
             // 1) S3에서 파일 삭제
             s3UploadService.delete(imageUrl);
            //2)DB 상태 변경
             image.reject();
         }
+        eventPublisher.publishEvent(ReviewChangedEvent.of(image.getReview().getToilet().getId()));
+
+    }
 
+    private boolean isValid(String validationResult) {
+        return validationResult != null && "VALID".equalsIgnoreCase(validationResult.trim());
     }
-}
\ No newline at end of file
+}
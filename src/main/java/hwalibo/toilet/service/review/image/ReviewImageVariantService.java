@@ -0,0 +1,113 @@
+package hwalibo.toilet.service.review.image;
+
+import hwalibo.toilet.domain.type.ImageVariant;
+import hwalibo.toilet.service.s3.S3UploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 리뷰 이미지 변형본(썸네일/중간/전체 JPEG) 생성
+ * - 원본은 FULL 크기로 바로 디코딩 (Thumbnailator가 읽을 때 서브샘플링하므로 원본 해상도 래스터를 만들지 않음)
+ *   더 작은 변형본은 FULL에서 줄여 만듦 (대용량 원본을 여러 번 읽지 않음)
+ * - 트랜잭션 밖에서 호출해야 함 (디코딩/업로드 동안 DB 커넥션을 잡지 않도록)
+ * - 하나라도 실패하면 이미 올린 변형본을 지우고 false (조회 쪽은 원본 URL로 대체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewImageVariantService {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final S3UploadService s3UploadService;
+
+    public boolean createVariants(String originalUrl, byte[] originalBytes) {
+        List<String> uploadedUrls = new ArrayList<>();
+        try {
+            // FULL → MEDIUM → THUMBNAIL 순서 (선언 역순)로 앞 단계 결과를 다음 단계의 입력으로 사용
+            BufferedImage source = decodeBounded(originalBytes, ImageVariant.FULL.getMaxSize());
+
+            ImageVariant[] variants = ImageVariant.values();
+            for (int i = variants.length - 1; i >= 0; i--) {
+                ImageVariant variant = variants[i];
+                source = shrink(source, variant.getMaxSize());
+
+                String key = s3UploadService.toKey(variant.urlOf(originalUrl));
+                uploadedUrls.add(s3UploadService.upload(key, toJpeg(source), "image/jpeg"));
+            }
+            log.info("이미지 변형본 생성 완료: {}", originalUrl);
+            return true;
+        } catch (Exception e) {
+            log.error("이미지 변형본 생성 실패 (원본 URL로 대체): {}", originalUrl, e);
+            s3UploadService.deleteAll(uploadedUrls);
+            return false;
+        }
+    }
+
+    /**
+     * 가로세로 중 큰 쪽이 maxSize 이하가 되도록 바로 디코딩
+     * - 헤더만 읽어 크기를 확인하고, 이미 작은 이미지는 키우지 않음 (size()는 작은 이미지를 확대함)
+     * - JPEG는 알파 채널을 담을 수 없으므로 RGB로 디코딩
+     */
+    private BufferedImage decodeBounded(byte[] originalBytes, int maxSize) throws IOException {
+        Thumbnails.Builder<? extends InputStream> builder = Thumbnails.of(new ByteArrayInputStream(originalBytes))
+                .imageType(BufferedImage.TYPE_INT_RGB);
+        if (longestSide(originalBytes) > maxSize) {
+            builder.size(maxSize, maxSize);
+        } else {
+            builder.scale(1.0);
+        }
+        return builder.asBufferedImage();
+    }
+
+    // 픽셀을 디코딩하지 않고 헤더에서 가로세로 중 큰 값만 읽음
+    private int longestSide(byte[] originalBytes) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(originalBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return Math.max(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로세로 중 큰 쪽이 maxSize를 넘을 때만 비율 유지 축소
+    private BufferedImage shrink(BufferedImage image, int maxSize) throws IOException {
+        if (Math.max(image.getWidth(), image.getHeight()) <= maxSize) {
+            return image;
+        }
+        return Thumbnails.of(image)
+                .size(maxSize, maxSize)
+                .asBufferedImage();
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Thumbnails.of(image)
+                .scale(1.0)
+                .outputFormat("jpg")
+                .outputQuality(JPEG_QUALITY)
+                .toOutputStream(baos);
+        return baos.toByteArray();
+    }
+}
@@ -1,16 +1,21 @@
 package hwalibo.toilet.service.review.query;
 
-import hwalibo.toilet.domain.review.Review;
+import hwalibo.toilet.domain.type.ImageVariant;
 import hwalibo.toilet.domain.user.User;
 import hwalibo.toilet.dto.review.photo.response.ImageDto;
 import hwalibo.toilet.dto.review.response.user.MyReviewListResponse;
 import hwalibo.toilet.dto.review.response.user.MyReviewResponse;
 import hwalibo.toilet.respository.review.ReviewQueryRepository;
+import hwalibo.toilet.respository.review.image.ReviewImageQueryRepository;
+import hwalibo.toilet.respository.review.projection.MyReviewRow;
+import hwalibo.toilet.respository.review.projection.ReviewImageRow;
+import hwalibo.toilet.utils.TagMaskUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,24 +24,35 @@ import java.util.stream.Collectors;
 public class ReviewQueryService {
 
     private final ReviewQueryRepository reviewQueryRepository;
+    private final ReviewImageQueryRepository reviewImageQueryRepository;
 
     public MyReviewListResponse getMyReviews(User loginUser) {
-        List<Review> reviews = reviewQueryRepository.findAllByUser(loginUser);
-        List<MyReviewResponse> items = reviews.stream()
+        // 리뷰(+화장실, 태그 마스크) 행과 승인된 이미지를 레코드로 한 번씩 조회해서 합침
+        List<MyReviewRow> rows = reviewQueryRepository.findMyReviewRows(loginUser);
+        if (rows.isEmpty()) {
+            return new MyReviewListResponse(List.of());
+        }
+
+        List<Long> ids = rows.stream().map(MyReviewRow::id).collect(Collectors.toList());
+
+        Map<Long, List<ImageDto>> imagesByReview = reviewImageQueryRepository.findApprovedRowsByReviewIdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        ReviewImageRow::reviewId,
+                        Collectors.mapping(img -> new ImageDto(img.imageId(), ImageVariant.MEDIUM.resolve(img.url(), img.hasVariants())), Collectors.toList()))); // 각 이미지의 id와 url을 받는 image dto 생성
+
+        List<MyReviewResponse> items = rows.stream()
                 .map(r -> new MyReviewResponse(
-                        r.getId(),
-                        r.getToilet().getName(),
-                        r.getToilet().getGender(),
-                        r.getToilet().getLine(),
-                        r.getDescription(),
-                        r.getStar() == null ? null : r.getStar().intValue(),
-                        r.getReviewImages().stream()
-                                .map(img->new ImageDto(img.getId(),img.getUrl())) // 각 ReviewImage의 id와 url을 받는 image dto 생성
-                                .collect(Collectors.toList()),// 반환된 String(URL)들을 새 리스트로 수집,
-                        r.getTag(),
+                        r.id(),
+                        r.toiletName(),
+                        r.gender(),
+                        r.line(),
+                        r.description(),
+                        r.star() == null ? null : r.star().intValue(),
+                        imagesByReview.getOrDefault(r.id(), List.of()),
+                        TagMaskUtils.toTags(r.tagMask()),
                         r.isDis(),
-                        r.getCreatedAt(),
-                        r.getUpdatedAt()
+                        r.createdAt(),
+                        r.updatedAt()
                 ))
                 .collect(Collectors.toList());
 
@@ -0,0 +1,257 @@
+package hwalibo.toilet.service.review.upload;
+
+import hwalibo.toilet.domain.review.Review;
+import hwalibo.toilet.domain.review.ReviewImage;
+import hwalibo.toilet.domain.type.ValidationStatus;
+import hwalibo.toilet.domain.user.User;
+import hwalibo.toilet.dto.review.photo.request.PhotoConfirmRequest;
+import hwalibo.toilet.dto.review.photo.request.PhotoPresignRequest;
+import hwalibo.toilet.dto.review.photo.response.PhotoPresignResponse;
+import hwalibo.toilet.dto.review.photo.response.PhotoUploadResponse;
+import hwalibo.toilet.dto.review.photo.response.PhotoUrlResponse;
+import hwalibo.toilet.respository.review.ReviewRepository;
+import hwalibo.toilet.respository.review.image.ReviewImageQueryRepository;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
+import hwalibo.toilet.service.review.googlevision.GoogleVisionValidationService;
+import hwalibo.toilet.service.s3.S3BatchDeleteService;
+import hwalibo.toilet.service.s3.S3UploadService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 리뷰 이미지 직접 업로드 (presigned PUT)
+ * 1. 발급: 리뷰 작성자에게만, 파일마다 임시 경로(staging/)의 새 key와 짧은 유효기간의 PUT URL 발급
+ *    (Content-Type/크기는 서명에 포함) 발급한 key는 Redis에 "작성자:리뷰"로 TTL과 함께 기록
+ * 2. 업로드: 클라이언트가 S3로 직접 PUT (이미지 바이트가 애플리케이션 서버를 거치지 않음)
+ * 3. 확인: Redis 기록으로 key 소유권을 확인하고 HeadObject로 실제 업로드/크기를 검사한 뒤
+ *    key를 선점하고, 정식 경로(reviews/)로 복사해서 ReviewImage(PENDING) 저장
+ *    - 커밋되면 임시 객체를 지우고 비동기 검수 시작
+ *    - 롤백되면 선점했던 key를 되돌리고 복사본을 지움 (같은 key로 다시 확인 요청 가능)
+ * - 확인되지 않은 임시 객체는 staging/ 수명 주기 규칙(S3StagingLifecycleInitializer)으로 만료
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewPhotoDirectUploadService {
+
+    private static final String KEY_PREFIX = "upload:review-photo:";
+    private static final String DIR_NAME = "reviews";
+    public static final String STAGING_PREFIX = "staging/";
+    private static final int MAX_IMAGES_PER_REVIEW = 2;
+
+    // 허용 이미지 타입 → 저장 확장자
+    // 검수/변형본 생성이 ImageIO로 디코딩하므로 기본 ImageIO가 읽을 수 있는 형식만 허용 (webp/heic 불가)
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png"
+    );
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewImageQueryRepository reviewImageQueryRepository;
+    private final S3UploadService s3UploadService;
+    private final S3BatchDeleteService s3BatchDeleteService;
+    private final GoogleVisionValidationService googleVisionValidationService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${upload.presigned.expire-seconds:300}")
+    private long expireSeconds;
+
+    // 확인 요청까지 기다리는 시간 (URL 유효기간 + 업로드 소요 시간 여유)
+    @Value("${upload.presigned.confirm-window-seconds:1800}")
+    private long confirmWindowSeconds;
+
+    @Value("${upload.presigned.max-file-size:10485760}")
+    private long maxFileSize;
+
+    @Transactional(readOnly = true)
+    public PhotoPresignResponse issue(User loginUser, Long reviewId, PhotoPresignRequest request) {
+        Review review = findOwnedReview(loginUser, reviewId);
+
+        List<PhotoPresignRequest.FileSpec> files = request.getFiles();
+        if (countApproved(review) + files.size() > MAX_IMAGES_PER_REVIEW) {
+            throw new IllegalArgumentException("이미지는 총 2개까지만 등록할 수 있습니다.");
+        }
+
+        Duration expiresIn = Duration.ofSeconds(expireSeconds);
+        String owner = ownerOf(loginUser, reviewId);
+
+        List<PhotoPresignResponse.PresignedUpload> uploads = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            PhotoPresignRequest.FileSpec file = files.get(i);
+            String contentType = file.getContentType().trim().toLowerCase();
+            String ext = EXTENSIONS.get(contentType);
+            if (ext == null) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + file.getContentType());
+            }
+            if (file.getSize() > maxFileSize) {
+                throw new IllegalArgumentException("이미지 파일은 " + (maxFileSize / (1024 * 1024)) + "MB 이하만 업로드할 수 있습니다.");
+            }
+
+            String key = s3UploadService.newKey(STAGING_PREFIX + DIR_NAME, ext);
+            PresignedPutObjectRequest presigned = s3UploadService.presignPut(key, contentType, file.getSize(), expiresIn);
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, owner, Duration.ofSeconds(confirmWindowSeconds));
+
+            uploads.add(PhotoPresignResponse.PresignedUpload.builder()
+                    .index(i)
+                    .key(key)
+                    .uploadUrl(presigned.url().toString())
+                    .headers(presigned.signedHeaders())
+                    .expiresAt(LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()))
+                    .build());
+        }
+
+        return PhotoPresignResponse.builder().uploads(uploads).build();
+    }
+
+    @Transactional
+    public PhotoUploadResponse confirm(User loginUser, Long reviewId, PhotoConfirmRequest request) {
+        Review review = findOwnedReview(loginUser, reviewId);
+
+        List<String> keys = request.getKeys();
+        if (new HashSet<>(keys).size() != keys.size()) {
+            throw new IllegalArgumentException("중복된 이미지 key가 포함되어 있습니다.");
+        }
+
+        long currentApprovedCount = countApproved(review);
+        if (currentApprovedCount + keys.size() > MAX_IMAGES_PER_REVIEW) {
+            throw new IllegalArgumentException("이미지는 총 2개까지만 등록할 수 있습니다.");
+        }
+
+        // 1. key 소유권 확인 (이 사용자/리뷰로 발급된 임시 key만)
+        String owner = ownerOf(loginUser, reviewId);
+        for (String key : keys) {
+            if (key == null || !key.startsWith(STAGING_PREFIX)
+                    || !owner.equals(redisTemplate.opsForValue().get(KEY_PREFIX + key))) {
+                throw new SecurityException("발급되지 않았거나 만료된 업로드 key입니다.");
+            }
+        }
+
+        // 2. 실제 업로드 여부/크기 확인
+        for (String key : keys) {
+            HeadObjectResponse head = s3UploadService.head(key);
+            if (head == null) {
+                throw new IllegalArgumentException("업로드가 완료되지 않은 이미지입니다: " + key);
+            }
+            if (head.contentLength() > maxFileSize) {
+                throw new IllegalArgumentException("허용 크기를 넘는 이미지입니다: " + key);
+            }
+        }
+
+        // 3. 검증이 끝난 뒤 key 선점 (동시에 같은 key로 확인 요청이 와도 한쪽만 통과)
+        //    하나라도 실패하면 이미 선점한 key를 되돌려서 다시 시도할 수 있게 함
+        List<String> claimed = new ArrayList<>();
+        for (String key : keys) {
+            if (!Boolean.TRUE.equals(redisTemplate.delete(KEY_PREFIX + key))) {
+                restoreClaims(claimed, owner);
+                throw new IllegalArgumentException("이미 확인 처리된 업로드 key입니다: " + key);
+            }
+            claimed.add(key);
+        }
+
+        // 4. 롤백되면 선점/복사를 되돌리고, 커밋되면 임시 객체 정리 + 비동기 검수
+        List<ReviewImage> images = new ArrayList<>();
+        List<String> promotedKeys = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                s3BatchDeleteService.deleteAllAsync(claimed);
+                for (ReviewImage image : images) {
+                    try {
+                        googleVisionValidationService.validateImage(image.getId(), image.getUrl());
+                    } catch (Exception e) {
+                        log.error("직접 업로드 이미지 비동기 검수 호출 중 에러: id={}", image.getId(), e);
+                    }
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) return;
+                restoreClaims(claimed, owner);
+                s3BatchDeleteService.deleteAllAsync(promotedKeys);
+            }
+        });
+
+        // 5. 정식 경로로 복사 후 ReviewImage 저장 (PENDING, 순서는 기존 승인 이미지 다음부터)
+        int nextOrder = (int) currentApprovedCount;
+        for (String key : keys) {
+            String finalKey = key.substring(STAGING_PREFIX.length());
+            s3UploadService.copy(key, finalKey);
+            promotedKeys.add(finalKey);
+
+            images.add(ReviewImage.builder()
+                    .url(s3UploadService.toUrl(finalKey))
+                    .sortOrder(nextOrder++)
+                    .review(review)
+                    .status(ValidationStatus.PENDING)
+                    .build());
+        }
+        reviewImageQueryRepository.saveAll(images);
+        eventPublisher.publishEvent(ReviewChangedEvent.of(review.getToilet().getId()));
+
+        List<PhotoUrlResponse> dtos = new ArrayList<>();
+        for (int i = 0; i < images.size(); i++) {
+            dtos.add(PhotoUrlResponse.builder()
+                    .index(i)
+                    .photoId(images.get(i).getId())
+                    .photoUrl(images.get(i).getUrl())
+                    .build());
+        }
+        return PhotoUploadResponse.of(dtos);
+    }
+
+    private Review findOwnedReview(User loginUser, Long reviewId) {
+        if (loginUser == null) {
+            throw new SecurityException("유효하지 않은 토큰입니다.");
+        }
+
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 리뷰입니다."));
+
+        if (review.getUser() == null || !Objects.equals(review.getUser().getId(), loginUser.getId())) {
+            throw new SecurityException("본인이 작성한 리뷰에만 이미지를 추가할 수 있습니다.");
+        }
+        return review;
+    }
+
+    private long countApproved(Review review) {
+        return review.getReviewImages().stream()
+                .filter(image -> image.getStatus() == ValidationStatus.APPROVED)
+                .count();
+    }
+
+    // 선점했던 key를 다시 확인 가능한 상태로 되돌림
+    private void restoreClaims(List<String> keys, String owner) {
+        for (String key : keys) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + key, owner, Duration.ofSeconds(confirmWindowSeconds));
+            } catch (Exception e) {
+                log.error("업로드 key 복구 실패: {}", key, e);
+            }
+        }
+    }
+
+    private String ownerOf(User loginUser, Long reviewId) {
+        return loginUser.getId() + ":" + reviewId;
+    }
+}
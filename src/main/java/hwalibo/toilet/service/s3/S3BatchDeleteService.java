@@ -0,0 +1,108 @@
+package hwalibo.toilet.service.s3;
+
+import hwalibo.toilet.utils.S3KeyUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * S3 일괄 삭제 (DeleteObjects)
+ * - URL/key를 key로 바꿔 중복을 제거하고 최대 1000개(DeleteObjects 한도)씩 한 번의 요청으로 삭제
+ * - quiet 모드라 응답에는 실패한 key만 담기고, 이를 S3DeleteResult로 모아 반환
+ * - 트랜잭션 커밋 후 정리처럼 기다릴 필요가 없는 경우 deleteAllAsync 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3BatchDeleteService {
+
+    // DeleteObjects 한 번에 보낼 수 있는 최대 key 수
+    private static final int MAX_KEYS_PER_REQUEST = 1_000;
+
+    private final S3Client s3Client;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public S3DeleteResult deleteAll(Collection<String> urlsOrKeys) {
+        if (urlsOrKeys == null || urlsOrKeys.isEmpty()) {
+            return S3DeleteResult.empty();
+        }
+
+        Set<String> unique = new LinkedHashSet<>();
+        for (String urlOrKey : urlsOrKeys) {
+            String key = S3KeyUtils.toKey(bucket, urlOrKey);
+            if (key != null && !key.isBlank()) unique.add(key);
+        }
+        List<String> keys = new ArrayList<>(unique);
+
+        List<S3DeleteResult.Failure> failures = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_REQUEST) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, keys.size()));
+            failures.addAll(deleteChunk(chunk));
+        }
+
+        S3DeleteResult result = new S3DeleteResult(keys.size(), keys.size() - failures.size(), failures);
+        if (result.hasFailures()) {
+            log.warn("S3 일괄 삭제 일부 실패: 요청 {}개, 실패 {}개, 실패 목록={}",
+                    result.requested(), failures.size(), failures);
+        } else {
+            log.info("S3 일괄 삭제 완료: {}개", result.deleted());
+        }
+        return result;
+    }
+
+    @Async
+    public CompletableFuture<S3DeleteResult> deleteAllAsync(Collection<String> urlsOrKeys) {
+        try {
+            return CompletableFuture.completedFuture(deleteAll(urlsOrKeys));
+        } catch (Exception e) {
+            log.error("S3 비동기 일괄 삭제 실패", e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private List<S3DeleteResult.Failure> deleteChunk(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build();
+
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            List<S3DeleteResult.Failure> failures = new ArrayList<>();
+            for (S3Error error : response.errors()) {
+                failures.add(new S3DeleteResult.Failure(error.key(), error.code(), error.message()));
+            }
+            return failures;
+        } catch (S3Exception e) {
+            // 요청 자체가 실패하면 묶음 전체를 실패로 기록
+            log.error("S3 DeleteObjects 요청 실패: {}개", keys.size(), e);
+            String code = e.awsErrorDetails() != null ? e.awsErrorDetails().errorCode() : String.valueOf(e.statusCode());
+            return keys.stream()
+                    .map(key -> new S3DeleteResult.Failure(key, code, Objects.toString(e.getMessage(), "")))
+                    .toList();
+        }
+    }
+}
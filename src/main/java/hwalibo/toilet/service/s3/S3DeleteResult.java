@@ -0,0 +1,20 @@
+package hwalibo.toilet.service.s3;
+
+import java.util.List;
+
+/**
+ * S3 일괄 삭제 결과
+ * - failures: 삭제되지 않은 key와 S3 오류 코드/메시지 (요청 자체가 실패한 묶음은 묶음 안의 key 전체)
+ */
+public record S3DeleteResult(int requested, int deleted, List<Failure> failures) {
+
+    public static S3DeleteResult empty() {
+        return new S3DeleteResult(0, 0, List.of());
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public record Failure(String key, String code, String message) {}
+}
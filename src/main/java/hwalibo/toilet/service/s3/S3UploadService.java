@@ -2,6 +2,8 @@ package hwalibo.toilet.service.s3;
 
 
 import hwalibo.toilet.utils.S3KeyUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,19 +11,35 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3UploadService {
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3BatchDeleteService s3BatchDeleteService;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
@@ -29,63 +47,183 @@ public class S3UploadService {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    // 인스턴스 전체에서 동시에 진행할 수 있는 S3 업로드 수
+    @Value("${s3.upload.max-concurrency:16}")
+    private int maxConcurrency;
+
+    private final ExecutorService uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore uploadPermits;
+
+    @PostConstruct
+    void initUploadPermits() {
+        uploadPermits = new Semaphore(maxConcurrency);
+    }
+
+    @PreDestroy
+    void shutdownUploadExecutor() {
+        uploadExecutor.shutdown();
+    }
+
+    /**
+     * 여러 파일을 동시에 업로드 (가상 스레드, 전체 동시 업로드 수는 세마포어로 제한)
+     * - 총 소요 시간 ≈ 가장 느린 파일 하나
+     * - 하나라도 실패하면 나머지 업로드가 끝나길 기다린 뒤 전부 삭제 (전부 성공 or 전부 롤백)
+     */
     public List<String> uploadAll(List<MultipartFile> files,String dirName) {
-        List<String> urls = new ArrayList<>(files.size());
-        List<String> uploadedKeys = new ArrayList<>();
-        try{
-            for (MultipartFile f : files) {
-                String key = dirName + "/" + UUID.randomUUID() + getExt(f.getOriginalFilename());
-                uploadedKeys.add(key);
-                //메타 데이터 세팅
-                Map<String, String> metadata = new HashMap<>();
-                metadata.put("Content-Type", f.getContentType());
-
-                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(key)
-                        .contentType(f.getContentType())
-                        .metadata(metadata)
-                        .build();
-
-                //S3 업로드
-                s3Client.putObject(
-                        putObjectRequest,
-                        RequestBody.fromInputStream(f.getInputStream(), f.getSize())
-                );
-
-                //URL 생성
-                String url = "https://" + bucket + ".s3." +
-                        region + ".amazonaws.com/" + key;
-                urls.add(url);
+        List<String> keys = new ArrayList<>(files.size());
+        List<Future<?>> futures = new ArrayList<>(files.size());
+        for (MultipartFile f : files) {
+            String key = dirName + "/" + UUID.randomUUID() + getExt(f.getOriginalFilename());
+            keys.add(key);
+            futures.add(uploadExecutor.submit(() -> {
+                putWithPermit(f, key);
+                return null;
+            }));
+        }
+
+        // 모든 업로드가 끝날 때까지 기다리고 첫 번째 실패만 기억
+        Throwable failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) failure = e;
+            }
+        }
+
+        if (failure == null) {
+            List<String> urls = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                //URL 생성 (요청 순서 유지)
+                urls.add(toUrl(key));
             }
             return urls;
-        }catch(IOException e) {
+        }
+
+        rollbackUpload(keys);
+        if (failure instanceof IOException e) {
             //파일 스트림 관련 IO에러
             log.error("파일 입출력 에러 발생: {}", e.getMessage(), e);
-            rollbackUpload(uploadedKeys);
             throw new UncheckedIOException("파일 스트림 처리 중 오류 발생", e);
-        }catch(S3Exception e) {
+        }
+        if (failure instanceof S3Exception e) {
             //S3 접속 권한 관련 에러
             log.error("S3 업로드 중 에러 발생:{} ", e.getMessage(), e);
-            rollbackUpload(uploadedKeys);
             throw e;
         }
+        if (failure instanceof RuntimeException e) {
+            log.error("S3 업로드 중 에러 발생:{} ", e.getMessage(), e);
+            throw e;
+        }
+        throw new IllegalStateException("S3 업로드가 중단되었습니다.", failure);
+    }
 
+    private void putWithPermit(MultipartFile f, String key) throws IOException, InterruptedException {
+        uploadPermits.acquire();
+        try {
+            //메타 데이터 세팅
+            Map<String, String> metadata = new HashMap<>();
+            metadata.put("Content-Type", f.getContentType());
+
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(f.getContentType())
+                    .metadata(metadata)
+                    .build();
+
+            //S3 업로드
+            try (InputStream in = f.getInputStream()) {
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(in, f.getSize()));
+            }
+        } finally {
+            uploadPermits.release();
+        }
     }
 
-    //업로드 실패 시 이전에 성공한 파일들을 S3에서 삭제
+    /**
+     * 서버에서 만든 바이트(이미지 변형본 등)를 지정한 키로 업로드하고 URL 반환
+     */
+    public String upload(String key, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+        return toUrl(key);
+    }
+
+    /**
+     * 클라이언트 직접 업로드용 presigned PUT URL 발급
+     * - Content-Type / Content-Length가 서명에 포함되므로 다른 타입이나 크기로 올리면 S3가 거부
+     */
+    public PresignedPutObjectRequest presignPut(String key, String contentType, long contentLength, Duration expiresIn) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(putObjectRequest)
+                .build());
+    }
+
+    /**
+     * 객체 메타데이터 조회 (없으면 null)
+     */
+    public HeadObjectResponse head(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return null;
+            throw e;
+        }
+    }
+
+    /**
+     * 같은 버킷 안에서 객체 복사 (임시 업로드 경로 → 정식 경로 승격 등)
+     */
+    public void copy(String sourceKey, String targetKey) {
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucket)
+                .destinationKey(targetKey)
+                .build());
+    }
+
+    public String newKey(String dirName, String ext) {
+        return dirName + "/" + UUID.randomUUID() + ext;
+    }
+
+    public String toKey(String fileUrl) {
+        return S3KeyUtils.toKey(bucket, fileUrl);
+    }
+
+    public String toUrl(String key) {
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    //업로드 실패 시 이전에 성공한 파일들을 S3에서 삭제 (DeleteObjects 한 번)
     private void rollbackUpload(List<String>KeysToRollback){
         log.warn("---S3 업로드 실패로 인한 롤백 시작. {}개 파일 삭제--",KeysToRollback.size());
-        for(String key:KeysToRollback){
-            try {
-                DeleteObjectRequest deleteObjectRequest=DeleteObjectRequest.builder()
-                        .bucket(bucket).key(key).build();
-
-                s3Client.deleteObject(deleteObjectRequest);
-                log.info("롤백 완료:{}", key);
-            }catch(Exception rollbackException){
-                log.error("롤백 실패:{}",key,rollbackException);
+        try {
+            S3DeleteResult result = s3BatchDeleteService.deleteAll(KeysToRollback);
+            for (S3DeleteResult.Failure failure : result.failures()) {
+                log.error("롤백 실패:{} ({})", failure.key(), failure.code());
             }
+        }catch(Exception rollbackException){
+            log.error("롤백 실패:{}",KeysToRollback,rollbackException);
         }
         log.warn("---S3 업로드 롤백 완료---");
     }
@@ -111,21 +249,17 @@ public class S3UploadService {
 
     /**
      * S3에서 여러 개의 파일을 한 번에 삭제
-     * (AuthService의 withdraw 메서드에서 사용)
+     * (DeleteObjects로 최대 1000개씩 묶어서 요청, 실패한 key는 결과에 담김)
      * @param imageUrls 삭제할 파일들의 전체 URL 리스트
      */
-    public void deleteAll(List<String> imageUrls) {
+    public S3DeleteResult deleteAll(List<String> imageUrls) {
         if (imageUrls == null || imageUrls.isEmpty()) {
-            return;
+            return S3DeleteResult.empty();
         }
 
         log.info("--- S3 일괄 삭제 시작. 총 {}개 파일 ---", imageUrls.size());
-
-        // 기존의 단건 삭제 메서드를 반복 호출
-        for (String url : imageUrls) {
-            this.delete(url);
-        }
-
-        log.info("--- S3 일괄 삭제 완료 ---");
+        S3DeleteResult result = s3BatchDeleteService.deleteAll(imageUrls);
+        log.info("--- S3 일괄 삭제 완료 (성공 {}개, 실패 {}개) ---", result.deleted(), result.failures().size());
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,44 +1,262 @@
 package hwalibo.toilet.service.station;
 
 import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.dto.station.request.StationSuggestBatchRequest;
 import hwalibo.toilet.dto.station.request.StationSuggestRequest;
+import hwalibo.toilet.dto.station.response.ClusterResponse;
+import hwalibo.toilet.dto.station.response.ClusterTileResponse;
+import hwalibo.toilet.dto.station.response.StationDetailResponse;
+import hwalibo.toilet.dto.station.response.StationGroupResponse;
 import hwalibo.toilet.dto.station.response.StationSearchResponse;
+import hwalibo.toilet.dto.station.response.ToiletRecommendResponse;
+import hwalibo.toilet.dto.station.response.StationSuggestBatchResponse;
 import hwalibo.toilet.dto.station.response.StationSuggestResponse;
+import hwalibo.toilet.dto.station.response.ToiletMarkerResponse;
+import hwalibo.toilet.dto.station.response.ToiletViewportResponse;
+import hwalibo.toilet.exception.station.StationNotFoundException;
 import hwalibo.toilet.respository.toilet.ToiletQueryRepository;
 import hwalibo.toilet.respository.toilet.ToiletRepository;
+import hwalibo.toilet.service.station.aggregate.StationAggregateIndex;
+import hwalibo.toilet.service.station.aggregate.StationSummary;
+import hwalibo.toilet.service.station.cluster.TileCluster;
+import hwalibo.toilet.service.station.cluster.ToiletClusterIndex;
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletSpatialIndex;
+import hwalibo.toilet.service.station.recommend.ToiletRecommender;
+import hwalibo.toilet.service.station.search.StationFuzzyIndex;
+import hwalibo.toilet.service.station.search.StationFuzzyIndex.FuzzyMatch;
+import hwalibo.toilet.service.station.search.StationPrefixIndex;
+import hwalibo.toilet.service.station.search.StationSearchEngine;
+import hwalibo.toilet.service.station.search.StationSearchEngine.StationMatch;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StationService {
 
+    // 가까운 역 추천 개수
+    private static final int SUGGEST_SIZE = 3;
+
+    // 좌표가 이 개수 이상이면 여러 코어로 나눠서 조회
+    private static final int PARALLEL_BATCH_THRESHOLD = 64;
+
+    // 추천 화장실 최대 개수
+    private static final int MAX_RECOMMEND_LIMIT = 50;
+
+    // 지도 화면 조회 시 한 번에 내려주는 최대 화장실 수
+    private static final int MAX_VIEWPORT_LIMIT = 500;
+
     private final ToiletRepository toiletRepository;
     private final ToiletQueryRepository toiletQueryRepository;
+    private final ToiletSpatialIndex toiletSpatialIndex;
+    private final ToiletClusterIndex toiletClusterIndex;
+    private final StationPrefixIndex stationPrefixIndex;
+    private final StationSearchEngine stationSearchEngine;
+    private final StationFuzzyIndex stationFuzzyIndex;
+    private final ToiletRecommender toiletRecommender;
+    private final StationAggregateIndex stationAggregateIndex;
+
+    /**
+     * 역 이름 자동완성 검색
+     * - 정확히 일치 → 접두어 일치 → 초성/자모 일치("ㄱㄴ", "강ㄴ", 중간 일치) 순으로 정렬
+     * - 초성/자모 일치는 앞쪽에서 일치한 역 먼저
+     * - 같은 그룹 안에서는 짧은 이름, 리뷰가 많은 역 순
+     * - fuzzy이면 오타를 허용한 일치(편집 거리가 가까운 순)를 마지막에 덧붙임
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<StationSearchResponse> search(String keyword, boolean fuzzy) {
+        String q = keyword == null ? "" : keyword.trim();
+        if (q.isEmpty()) return List.of();
+
+        // 인덱스가 준비되기 전(기동 직후)에만 DB 조회로 대체
+        if (!stationPrefixIndex.isReady() || !stationSearchEngine.isReady()) {
+            List<Toilet> toilets = toiletRepository.findByNameContaining(q);
+            return toilets.stream()
+                    .map(t -> StationSearchResponse.from(t, t.getStar(), t.getNumReview()))
+                    .collect(Collectors.toList());
+        }
 
-    public List<StationSearchResponse> search(String keyword) {
-        List<Toilet> toilets = toiletRepository.findByNameContaining(keyword);
-        return toilets.stream()
-                .map(t -> StationSearchResponse.from(t, t.getStar(), t.getNumReview()))
+        return rankStationNames(q, fuzzy).stream()
+                .flatMap(name -> stationPrefixIndex.getToilets(name).stream())
+                .map(StationSearchResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 역 단위로 묶은 검색 결과 (정렬 기준은 search와 동일)
+     * - 출구/성별마다 반복되던 행 대신 역 하나당 한 건
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<StationGroupResponse> searchGrouped(String keyword, boolean fuzzy) {
+        String q = keyword == null ? "" : keyword.trim();
+        if (q.isEmpty()) return List.of();
+
+        // 역 집계는 기동 직후 인덱스 구축과 함께 만들어지므로, 그 전에는 빈 결과
+        if (!stationPrefixIndex.isReady() || !stationSearchEngine.isReady() || !stationAggregateIndex.isReady()) {
+            return List.of();
+        }
+
+        return rankStationNames(q, fuzzy).stream()
+                .map(stationAggregateIndex::find)
+                .flatMap(Optional::stream)
+                .map(StationGroupResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 역 상세 (역 집계 + 역에 속한 화장실 목록)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StationDetailResponse getStationDetail(String stationName) {
+        StationSummary station = stationAggregateIndex.find(stationName)
+                .orElseThrow(StationNotFoundException::new);
+
+        List<StationSearchResponse> toilets = stationPrefixIndex.getToilets(stationName).stream()
+                .map(StationSearchResponse::from)
+                .collect(Collectors.toList());
+
+        return StationDetailResponse.from(station, toilets);
+    }
+
+    private List<String> rankStationNames(String q, boolean fuzzy) {
+        Comparator<String> ranking = Comparator.comparing((String name) -> !name.equals(q))
+                .thenComparingInt(String::length)
+                .thenComparing(Comparator.comparingInt(this::totalReviews).reversed())
+                .thenComparing(Comparator.naturalOrder());
+
+        List<String> names = new ArrayList<>(stationPrefixIndex.findByPrefix(q));
+        names.sort(ranking);
+
+        Set<String> seen = new HashSet<>(names);
+        stationSearchEngine.search(q).stream()
+                .filter(match -> !seen.contains(match.name()))
+                .sorted(Comparator.comparingInt(StationMatch::position)
+                        .thenComparing(StationMatch::name, ranking))
+                .forEach(match -> names.add(match.name()));
+
+        if (fuzzy) {
+            seen.addAll(names);
+            stationFuzzyIndex.search(q).stream()
+                    .filter(match -> !seen.contains(match.name()))
+                    .sorted(Comparator.comparingInt(FuzzyMatch::distance)
+                            .thenComparing(FuzzyMatch::name, ranking))
+                    .forEach(match -> names.add(match.name()));
+        }
+        return names;
+    }
+
+    private int totalReviews(String stationName) {
+        return stationPrefixIndex.getToilets(stationName).stream()
+                .mapToInt(IndexedToilet::getNumReview)
+                .sum();
+    }
+
+    // 인덱스에서 응답하는 경우 DB 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않음
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public StationSuggestResponse suggest(StationSuggestRequest request) {
         double lat = request.getLatitude();
         double lng = request.getLongitude();
 
-        List<Toilet> nearestStations = toiletQueryRepository.findTop3NearestStations(lat, lng);
+        // 공간 인덱스가 준비되기 전(기동 직후)에만 DB 조회로 대체
+        if (!toiletSpatialIndex.isReady()) {
+            List<String> names = toiletQueryRepository.findTop3NearestStations(lat, lng).stream()
+                    .map(Toilet::getName)
+                    .collect(Collectors.toList());
+            return new StationSuggestResponse(names);
+        }
 
-        List<String> names = nearestStations.stream()
-                .map(Toilet::getName)
+        return nearestFromIndex(lat, lng);
+    }
+
+    /**
+     * 여러 좌표의 가까운 역을 한 번에 조회 (경로 위 좌표 일괄 조회용)
+     * - 공간 인덱스는 읽기 전용 스냅샷이라 좌표별 조회를 그대로 병렬 실행해도 안전
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StationSuggestBatchResponse suggestBatch(StationSuggestBatchRequest request) {
+        List<StationSuggestRequest> points = request.getPoints();
+
+        // 공간 인덱스가 준비되기 전(기동 직후)에만 좌표별 DB 조회로 대체
+        if (!toiletSpatialIndex.isReady()) {
+            return new StationSuggestBatchResponse(points.stream().map(this::suggest).toList());
+        }
+
+        Stream<StationSuggestRequest> stream = points.size() >= PARALLEL_BATCH_THRESHOLD ? points.parallelStream() : points.stream();
+        List<StationSuggestResponse> results = stream
+                .map(p -> nearestFromIndex(p.getLatitude(), p.getLongitude()))
+                .toList();
+
+        return new StationSuggestBatchResponse(results);
+    }
+
+    private StationSuggestResponse nearestFromIndex(double lat, double lng) {
+        List<String> names = toiletSpatialIndex.findNearestStations(lat, lng, SUGGEST_SIZE).stream()
+                .map(IndexedToilet::getName)
                 .collect(Collectors.toList());
 
         return new StationSuggestResponse(names);
     }
-}
 
+    /**
+     * 주변 추천 화장실 (거리, 별점, 리뷰 수를 합친 점수 순)
+     * - 사용자 성별이 있으면 해당 성별 화장실만
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ToiletRecommendResponse> recommend(double lat, double lng, Gender gender, int limit) {
+        if (limit <= 0 || limit > MAX_RECOMMEND_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_RECOMMEND_LIMIT + " 이하여야 합니다.");
+        }
+
+        return toiletRecommender.recommend(lat, lng, gender, limit).stream()
+                .map(ToiletRecommendResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ToiletViewportResponse findInViewport(double minLat, double maxLat, double minLng, double maxLng,
+                                                 Gender gender, int limit) {
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new IllegalArgumentException("화면 영역의 최솟값은 최댓값보다 클 수 없습니다.");
+        }
+        if (limit <= 0 || limit > MAX_VIEWPORT_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_VIEWPORT_LIMIT + " 이하여야 합니다.");
+        }
+
+        // limit보다 하나 더 받아서 잘렸는지 여부를 판단
+        List<IndexedToilet> found = toiletSpatialIndex.findInBounds(minLat, maxLat, minLng, maxLng, gender, limit + 1);
+        boolean truncated = found.size() > limit;
+
+        List<ToiletMarkerResponse> markers = found.stream()
+                .limit(limit)
+                .map(ToiletMarkerResponse::from)
+                .collect(Collectors.toList());
+
+        return new ToiletViewportResponse(markers, truncated);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ClusterTileResponse getClusterTile(int z, int x, int y) {
+        List<ClusterResponse> clusters = toiletClusterIndex.getClusters(z, x, y).stream()
+                .map(ClusterResponse::from)
+                .collect(Collectors.toList());
+
+        TileCluster tile = toiletClusterIndex.getTile(z, x, y);
+        long version = tile != null ? tile.version() : 0L;
+
+        return new ClusterTileResponse(z, x, y, version, clusters);
+    }
+}
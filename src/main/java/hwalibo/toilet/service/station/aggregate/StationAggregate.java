@@ -0,0 +1,76 @@
+package hwalibo.toilet.service.station.aggregate;
+
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.service.station.index.IndexedToilet;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 역 하나의 집계 (호선, 출구, 남/여 화장실 id, 리뷰 수 가중 평균 별점)
+ * - 호선/출구/화장실 목록은 카탈로그 재구축 시에만 바뀌므로 불변
+ * - 별점 합(Σ 별점 × 리뷰 수)과 리뷰 수는 화장실별 직전 값과의 차이만큼 갱신
+ */
+class StationAggregate {
+
+    private final String name;
+    private final List<Integer> lines;
+    private final List<Integer> exits;
+    private final List<Long> maleToiletIds;
+    private final List<Long> femaleToiletIds;
+    private final double latitude;
+    private final double longitude;
+
+    private final Map<Long, ToiletStats> applied = new HashMap<>();
+    private double starSum;
+    private long numReview;
+
+    private StationAggregate(String name, List<IndexedToilet> toilets) {
+        this.name = name;
+        this.lines = toilets.stream().map(IndexedToilet::getLine).filter(Objects::nonNull).distinct().sorted().toList();
+        this.exits = toilets.stream().map(IndexedToilet::getNumGate).filter(Objects::nonNull).distinct().sorted().toList();
+        this.maleToiletIds = idsOf(toilets, Gender.M);
+        this.femaleToiletIds = idsOf(toilets, Gender.F);
+
+        // 역 좌표는 출구별 화장실 좌표의 평균
+        this.latitude = toilets.stream().mapToDouble(IndexedToilet::getLatitude).average().orElse(0.0);
+        this.longitude = toilets.stream().mapToDouble(IndexedToilet::getLongitude).average().orElse(0.0);
+
+        for (IndexedToilet t : toilets) {
+            applied.put(t.getId(), new ToiletStats(t.getStar(), t.getNumReview()));
+            starSum += t.getStar() * t.getNumReview();
+            numReview += t.getNumReview();
+        }
+    }
+
+    static StationAggregate of(String name, List<IndexedToilet> toilets) {
+        return new StationAggregate(name, toilets);
+    }
+
+    synchronized void applyToiletStats(Long toiletId, double star, int reviews) {
+        ToiletStats before = applied.get(toiletId);
+        if (before == null) return;
+
+        starSum += star * reviews - before.star() * before.numReview();
+        numReview += reviews - before.numReview();
+        applied.put(toiletId, new ToiletStats(star, reviews));
+    }
+
+    synchronized StationSummary snapshot() {
+        double average = numReview > 0 ? starSum / numReview : 0.0;
+        return new StationSummary(name, lines, exits, maleToiletIds, femaleToiletIds,
+                latitude, longitude, average, (int) numReview);
+    }
+
+    private static List<Long> idsOf(List<IndexedToilet> toilets, Gender gender) {
+        return toilets.stream()
+                .filter(t -> t.getGender() == gender)
+                .map(IndexedToilet::getId)
+                .sorted()
+                .toList();
+    }
+
+    private record ToiletStats(double star, int numReview) {}
+}
@@ -0,0 +1,66 @@
+package hwalibo.toilet.service.station.aggregate;
+
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 역 이름 단위 집계 읽기 모델
+ * - 출구/성별/호선별 화장실 행을 역 이름 하나로 묶어 미리 계산해 둠
+ * - 리뷰 통계가 바뀌면 해당 화장실이 속한 역 집계만 차이만큼 갱신 (커밋된 경우에만)
+ */
+@Slf4j
+@Component
+public class StationAggregateIndex {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener
+    public void onCatalogRebuilt(ToiletCatalogRebuiltEvent event) {
+        Map<String, List<IndexedToilet>> byName = event.toilets().stream()
+                .filter(t -> t.getName() != null)
+                .collect(Collectors.groupingBy(IndexedToilet::getName));
+
+        Map<String, StationAggregate> stations = new HashMap<>();
+        Map<Long, StationAggregate> byToiletId = new HashMap<>();
+        byName.forEach((name, toilets) -> {
+            StationAggregate aggregate = StationAggregate.of(name, toilets);
+            stations.put(name, aggregate);
+            toilets.forEach(t -> byToiletId.put(t.getId(), aggregate));
+        });
+
+        this.snapshot = new Snapshot(stations, byToiletId);
+        log.info("✅ 역 집계 구축 완료. 역 {}개", stations.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewStatsChanged(ToiletReviewStatsChangedEvent event) {
+        StationAggregate aggregate = snapshot.byToiletId().get(event.toiletId());
+        if (aggregate != null) {
+            aggregate.applyToiletStats(event.toiletId(), event.star(), event.numReview());
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    public Optional<StationSummary> find(String stationName) {
+        return Optional.ofNullable(snapshot.stations().get(stationName)).map(StationAggregate::snapshot);
+    }
+
+    private record Snapshot(Map<String, StationAggregate> stations, Map<Long, StationAggregate> byToiletId) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+    }
+}
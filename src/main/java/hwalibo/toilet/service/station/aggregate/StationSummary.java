@@ -0,0 +1,20 @@
+package hwalibo.toilet.service.station.aggregate;
+
+import java.util.List;
+
+/**
+ * 역 단위 집계의 읽기 전용 스냅샷
+ *
+ * @param star 리뷰 수로 가중한 역 전체 평균 별점
+ */
+public record StationSummary(
+        String name,
+        List<Integer> lines,
+        List<Integer> exits,
+        List<Long> maleToiletIds,
+        List<Long> femaleToiletIds,
+        double latitude,
+        double longitude,
+        double star,
+        int numReview
+) {}
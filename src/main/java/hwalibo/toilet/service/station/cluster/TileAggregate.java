@@ -0,0 +1,62 @@
+package hwalibo.toilet.service.station.cluster;
+
+import hwalibo.toilet.domain.type.Gender;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 타일 한 칸의 누적 집계값
+ * - 화장실 추가 시 합계를 더하고, 별점 변경 시 차이만큼만 갱신
+ * - 읽기/쓰기 모두 이 객체 단위로 동기화
+ * - version은 인덱스 전체가 공유하는 시퀀스에서 받아, 재구축 전후에도 같은 값이 다른 집계를 가리키지 않음
+ */
+class TileAggregate {
+
+    private final int zoom;
+    private final int x;
+    private final int y;
+
+    private int count;
+    private int maleCount;
+    private int femaleCount;
+    private double sumLat;
+    private double sumLng;
+    private double starSum; // Σ(star × numReview)
+    private long numReview;
+    private final AtomicLong versionSequence;
+    private long version;
+
+    TileAggregate(int zoom, int x, int y, AtomicLong versionSequence) {
+        this.zoom = zoom;
+        this.x = x;
+        this.y = y;
+        this.versionSequence = versionSequence;
+    }
+
+    synchronized void addToilet(Gender gender, double lat, double lng, double starSum, long numReview) {
+        count++;
+        if (gender == Gender.M) maleCount++;
+        if (gender == Gender.F) femaleCount++;
+        sumLat += lat;
+        sumLng += lng;
+        this.starSum += starSum;
+        this.numReview += numReview;
+        version = versionSequence.incrementAndGet();
+    }
+
+    synchronized void applyReviewDelta(double starSumDelta, long numReviewDelta) {
+        starSum += starSumDelta;
+        numReview += numReviewDelta;
+        version = versionSequence.incrementAndGet();
+    }
+
+    synchronized TileCluster snapshot() {
+        double star = numReview > 0 ? starSum / numReview : 0.0;
+        return new TileCluster(
+                zoom, x, y,
+                count, maleCount, femaleCount,
+                sumLat / count, sumLng / count,
+                star, numReview, version
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package hwalibo.toilet.service.station.cluster;
+
+/**
+ * 타일 한 칸에 모인 화장실들의 집계 결과 (읽기 전용 스냅샷)
+ */
+public record TileCluster(
+        int zoom,
+        int x,
+        int y,
+        int count,
+        int maleCount,
+        int femaleCount,
+        double latitude,   // 중심점 위도
+        double longitude,  // 중심점 경도
+        double star,       // 리뷰 수 가중 평균 별점
+        long numReview,
+        long version       // 집계가 바뀔 때마다 증가 (재구축/재시작 후에도 이전 값과 겹치지 않음)
+) {
+}
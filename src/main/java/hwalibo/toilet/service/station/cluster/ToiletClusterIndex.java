@@ -0,0 +1,142 @@
+package hwalibo.toilet.service.station.cluster;
+
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
+import hwalibo.toilet.utils.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 줌 레벨별 지도 클러스터 인덱스
+ * - 화장실 카탈로그로부터 줌 레벨마다 웹 메르카토르 타일 단위 집계(개수, 평균 별점, 중심점, 남/여)를 미리 계산
+ * - 타일 (z, x, y) 요청 시, 해당 타일을 2^CLUSTER_DEPTH 등분한 하위 타일 집계를 클러스터로 반환
+ * - 리뷰 통계가 바뀌면 해당 화장실이 속한 타일들만 차이만큼 갱신
+ */
+@Slf4j
+@Component
+public class ToiletClusterIndex {
+
+    public static final int MIN_ZOOM = 8;
+    public static final int MAX_ZOOM = 16;
+
+    // 타일 하나를 8 x 8 칸으로 나눠 클러스터링
+    private static final int CLUSTER_DEPTH = 3;
+    private static final int MAX_LEVEL = MAX_ZOOM + CLUSTER_DEPTH;
+
+    // 타일 version 발급용 시퀀스 (재구축해도 이어서 증가)
+    // 메모리에만 있으므로 기동 시각(μs 단위)에서 시작해 재시작 후에도 이전 실행의 값보다 커지게 함
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    private volatile Levels levels = Levels.EMPTY;
+
+    /**
+     * 카탈로그 재구축 시 모든 레벨의 집계를 새로 계산해 통째로 교체
+     */
+    @EventListener
+    public void onCatalogRebuilt(ToiletCatalogRebuiltEvent event) {
+        Levels built = new Levels();
+
+        for (IndexedToilet t : event.toilets()) {
+            double starSum = t.getStar() * t.getNumReview();
+            for (int level = MIN_ZOOM; level <= MAX_LEVEL; level++) {
+                built.getOrCreate(level, GeoUtils.tileX(t.getLongitude(), level), GeoUtils.tileY(t.getLatitude(), level), versionSequence)
+                        .addToilet(t.getGender(), t.getLatitude(), t.getLongitude(), starSum, t.getNumReview());
+            }
+            built.applied.put(t.getId(), new AppliedStats(t, starSum, t.getNumReview()));
+        }
+
+        this.levels = built;
+        log.info("✅ 지도 클러스터 인덱스 구축 완료. 화장실 {}개, 줌 {}~{}", event.toilets().size(), MIN_ZOOM, MAX_ZOOM);
+    }
+
+    /**
+     * 리뷰 통계 변경분을 해당 화장실이 속한 모든 레벨의 타일에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewStatsChanged(ToiletReviewStatsChangedEvent event) {
+        Levels current = this.levels;
+
+        synchronized (current.applied) {
+            AppliedStats before = current.applied.get(event.toiletId());
+            if (before == null) return;
+
+            double starSum = event.star() * event.numReview();
+            double starSumDelta = starSum - before.starSum();
+            long numReviewDelta = event.numReview() - before.numReview();
+
+            IndexedToilet t = before.toilet();
+            for (int level = MIN_ZOOM; level <= MAX_LEVEL; level++) {
+                TileAggregate tile = current.get(level, GeoUtils.tileX(t.getLongitude(), level), GeoUtils.tileY(t.getLatitude(), level));
+                if (tile != null) {
+                    tile.applyReviewDelta(starSumDelta, numReviewDelta);
+                }
+            }
+            current.applied.put(event.toiletId(), new AppliedStats(t, starSum, event.numReview()));
+        }
+    }
+
+    /**
+     * 타일 (z, x, y) 안의 클러스터 목록
+     */
+    public List<TileCluster> getClusters(int zoom, int x, int y) {
+        if (zoom < MIN_ZOOM || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 " + MIN_ZOOM + " 이상 " + MAX_ZOOM + " 이하여야 합니다.");
+        }
+        Levels current = this.levels;
+
+        int level = zoom + CLUSTER_DEPTH;
+        int span = 1 << CLUSTER_DEPTH;
+        List<TileCluster> clusters = new ArrayList<>();
+
+        for (int cx = x * span; cx < (x + 1) * span; cx++) {
+            for (int cy = y * span; cy < (y + 1) * span; cy++) {
+                TileAggregate child = current.get(level, cx, cy);
+                if (child != null) {
+                    clusters.add(child.snapshot());
+                }
+            }
+        }
+        return clusters;
+    }
+
+    /**
+     * 타일 (z, x, y) 자체의 집계 (없으면 null)
+     */
+    public TileCluster getTile(int zoom, int x, int y) {
+        TileAggregate tile = levels.get(zoom, x, y);
+        return tile != null ? tile.snapshot() : null;
+    }
+
+    private record AppliedStats(IndexedToilet toilet, double starSum, long numReview) {}
+
+    private static final class Levels {
+        static final Levels EMPTY = new Levels();
+
+        final Map<Integer, Map<Long, TileAggregate>> tiles = new HashMap<>();
+        final Map<Long, AppliedStats> applied = new HashMap<>();
+
+        TileAggregate get(int level, int x, int y) {
+            Map<Long, TileAggregate> byKey = tiles.get(level);
+            return byKey != null ? byKey.get(tileKey(x, y)) : null;
+        }
+
+        TileAggregate getOrCreate(int level, int x, int y, AtomicLong versionSequence) {
+            return tiles.computeIfAbsent(level, l -> new HashMap<>())
+                    .computeIfAbsent(tileKey(x, y), k -> new TileAggregate(level, x, y, versionSequence));
+        }
+
+        private static long tileKey(int x, int y) {
+            return ((long) x << 32) | (y & 0xffffffffL);
+        }
+    }
+}
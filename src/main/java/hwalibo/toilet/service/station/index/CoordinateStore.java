@@ -0,0 +1,64 @@
+package hwalibo.toilet.service.station.index;
+
+import hwalibo.toilet.utils.GeoUtils;
+
+/**
+ * 화장실 좌표를 구조체 배열(SoA)로 보관하는 저장소
+ * - lat[], lng[], cosLat[]를 격자 칸 순서대로 이어 붙여 한 칸의 화장실이 [from, to) 구간에 연속으로 놓임
+ * - 거리 계산은 jdk.incubator.vector 모듈이 있으면 Vector API 커널(VectorDistanceKernel),
+ *   없으면 분기 없는 스칼라 루프로 처리 (실행 옵션: --add-modules jdk.incubator.vector)
+ * - 두 구현의 비교는 src/jmh의 CoordinateStoreBenchmark 참고
+ */
+final class CoordinateStore {
+
+    // 모듈이 없을 때 VectorDistanceKernel을 로드하면 NoClassDefFoundError가 나므로 기동 시 한 번만 확인
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    final double[] lat;
+    final double[] lng;
+    final double[] cosLat;
+
+    CoordinateStore(int size) {
+        this.lat = new double[size];
+        this.lng = new double[size];
+        this.cosLat = new double[size];
+    }
+
+    void set(int i, double latitude, double longitude) {
+        lat[i] = latitude;
+        lng[i] = longitude;
+        cosLat[i] = Math.cos(Math.toRadians(latitude));
+    }
+
+    int size() {
+        return lat.length;
+    }
+
+    /**
+     * 기준점에서 [from, to) 구간 좌표까지의 거리(m)를 out[0..]에 기록
+     * - 등장방형(equirectangular) 근사: 경도 차이에 두 위도 cos의 평균을 곱해 평면 거리로 계산
+     * - 수 km 이내에서는 haversine과의 오차가 0.1% 미만이라 순위 비교에는 충분
+     *
+     * @param cos0 기준점 위도의 cos (호출하는 쪽에서 한 번만 계산)
+     */
+    void distancesTo(double lat0, double lng0, double cos0, int from, int to, double[] out) {
+        if (VECTORIZED) {
+            VectorDistanceKernel.distancesTo(this, lat0, lng0, cos0, from, to, out);
+        } else {
+            distancesToScalar(lat0, lng0, cos0, from, to, out, 0);
+        }
+    }
+
+    /**
+     * 스칼라 구현 (Vector API가 없을 때, 그리고 벡터 커널이 처리하고 남은 꼬리 구간)
+     *
+     * @param offset [from]의 결과를 기록할 out 위치
+     */
+    void distancesToScalar(double lat0, double lng0, double cos0, int from, int to, double[] out, int offset) {
+        for (int i = from; i < to; i++) {
+            double x = (lng[i] - lng0) * 0.5 * (cosLat[i] + cos0);
+            double y = lat[i] - lat0;
+            out[offset + i - from] = Math.sqrt(x * x + y * y) * GeoUtils.METERS_PER_DEGREE;
+        }
+    }
+}
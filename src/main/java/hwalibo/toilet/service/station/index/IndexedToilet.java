@@ -0,0 +1,60 @@
+package hwalibo.toilet.service.station.index;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.domain.type.InOut;
+import lombok.Getter;
+
+/**
+ * 공간 인덱스에 올라가는 화장실 정보 (DB 조회 없이 응답하기 위한 최소 필드만 보관)
+ */
+@Getter
+public class IndexedToilet {
+
+    private final Long id;
+    private final String name;
+    private final Integer line;
+    private final Gender gender;
+    private final double latitude;
+    private final double longitude;
+    private final Integer numGate;
+    private final InOut inOut;
+
+    // 리뷰 작성/삭제 시 커밋 이후 갱신되는 통계
+    private volatile double star;
+    private volatile int numReview;
+
+    private IndexedToilet(Long id, String name, Integer line, Gender gender, double latitude, double longitude,
+                          Integer numGate, InOut inOut, double star, int numReview) {
+        this.id = id;
+        this.name = name;
+        this.line = line;
+        this.gender = gender;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.numGate = numGate;
+        this.inOut = inOut;
+        this.star = star;
+        this.numReview = numReview;
+    }
+
+    public static IndexedToilet from(Toilet toilet) {
+        return new IndexedToilet(
+                toilet.getId(),
+                toilet.getName(),
+                toilet.getLine(),
+                toilet.getGender(),
+                toilet.getLatitude(),
+                toilet.getLongitude(),
+                toilet.getNumGate(),
+                toilet.getInOut(),
+                toilet.getStar() != null ? toilet.getStar() : 0.0,
+                toilet.getNumReview() != null ? toilet.getNumReview() : 0
+        );
+    }
+
+    void updateStats(double star, int numReview) {
+        this.star = star;
+        this.numReview = numReview;
+    }
+}
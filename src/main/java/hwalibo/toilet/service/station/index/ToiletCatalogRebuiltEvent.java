@@ -0,0 +1,10 @@
+package hwalibo.toilet.service.station.index;
+
+import java.util.List;
+
+/**
+ * ToiletSpatialIndex가 화장실 카탈로그를 새로 구축했을 때 발행
+ * (카탈로그에서 파생되는 다른 메모리 인덱스들이 함께 재구축하는 데 사용)
+ */
+public record ToiletCatalogRebuiltEvent(List<IndexedToilet> toilets) {
+}
@@ -0,0 +1,360 @@
+package hwalibo.toilet.service.station.index;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.respository.toilet.ToiletRepository;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
+import hwalibo.toilet.utils.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 화장실 좌표 기반 격자(Grid) 공간 인덱스
+ * - 기동 시 toilet 테이블 전체를 메모리에 올려 위/경도 격자로 나눠 보관
+ * - 화장실을 격자 칸 순서로 정렬해 좌표는 구조체 배열(CoordinateStore)에, 칸은 [시작, 끝) 구간으로만 기록
+ * - 가까운 역 조회를 MySQL 전체 스캔(acos) 없이 주변 격자만 탐색해서 처리
+ * - 카탈로그가 바뀌면 rebuild()로 스냅샷을 통째로 교체 (읽기 쪽은 락 없음)
+ * - 재구축이 끝나면 ToiletCatalogRebuiltEvent를 발행해 파생 인덱스들도 함께 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToiletSpatialIndex {
+
+    // 격자 한 칸의 크기 (위/경도 0.01도 ≒ 약 1km)
+    private static final double CELL_SIZE = 0.01;
+
+    private final ToiletRepository toiletRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * DB의 화장실 목록으로 인덱스를 다시 구축
+     */
+    public void rebuild() {
+        List<Toilet> toilets = toiletRepository.findAll();
+
+        List<IndexedToilet> entries = new ArrayList<>();
+        for (Toilet toilet : toilets) {
+            if (toilet.getLatitude() == null || toilet.getLongitude() == null) continue;
+            entries.add(IndexedToilet.from(toilet));
+        }
+
+        // 같은 격자 칸의 화장실이 배열에서 연속으로 놓이도록 칸 번호순 정렬
+        entries.sort(Comparator.comparingLong(ToiletSpatialIndex::cellKeyOf));
+
+        this.snapshot = entries.isEmpty() ? Snapshot.EMPTY : Snapshot.build(entries);
+        log.info("✅ 화장실 공간 인덱스 구축 완료. 화장실 {}개, 격자 {}칸", entries.size(), snapshot.cellKeys.length);
+
+        eventPublisher.publishEvent(new ToiletCatalogRebuiltEvent(List.copyOf(entries)));
+    }
+
+    /**
+     * 리뷰 통계 변경을 인덱스에 반영 (커밋된 경우에만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewStatsChanged(ToiletReviewStatsChangedEvent event) {
+        IndexedToilet toilet = snapshot.byId.get(event.toiletId());
+        if (toilet != null) {
+            toilet.updateStats(event.star(), event.numReview());
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    public Optional<IndexedToilet> findById(Long toiletId) {
+        return Optional.ofNullable(snapshot.byId.get(toiletId));
+    }
+
+    /**
+     * 주어진 좌표에서 가까운 역을 k개 반환 (역 이름별로 가장 가까운 출구 하나만)
+     * - 중심 격자부터 한 겹씩 넓혀가며 탐색
+     * - 아직 보지 않은 격자의 최소 거리가 k번째 후보보다 멀어지면 탐색 종료
+     */
+    public List<IndexedToilet> findNearestStations(double lat, double lng, int k) {
+        Snapshot s = this.snapshot;
+        if (s == Snapshot.EMPTY || k <= 0) return List.of();
+
+        int cx = cellOf(lng);
+        int cy = cellOf(lat);
+        double cos0 = Math.cos(Math.toRadians(lat));
+
+        // 격자 한 칸 거리의 하한 (경도 방향이 더 짧으므로 cos(lat)로 보정)
+        double ringMeters = CELL_SIZE * GeoUtils.METERS_PER_DEGREE * cos0;
+
+        double[] dist = new double[s.maxCellSize];
+        Map<String, Candidate> bestByName = new HashMap<>();
+        int maxRing = s.maxRingFrom(cx, cy);
+
+        // 인덱스 범위 밖에서 조회한 경우, 비어 있는 겹은 건너뜀
+        for (int ring = s.minRingFrom(cx, cy); ring <= maxRing; ring++) {
+            s.forEachCellOnRing(cx, cy, ring, (from, to) -> {
+                s.coords.distancesTo(lat, lng, cos0, from, to, dist);
+                for (int i = from; i < to; i++) {
+                    IndexedToilet t = s.toilets[i];
+                    double d = dist[i - from];
+                    Candidate best = bestByName.get(t.getName());
+                    if (best == null || d < best.distance()) {
+                        bestByName.put(t.getName(), new Candidate(t, d));
+                    }
+                }
+            });
+
+            if (bestByName.size() >= k && kthDistance(bestByName.values(), k) <= ring * ringMeters) {
+                break;
+            }
+        }
+
+        return bestByName.values().stream()
+                .sorted(Comparator.comparingDouble(Candidate::distance))
+                .limit(k)
+                .map(Candidate::toilet)
+                .toList();
+    }
+
+    /**
+     * 지도 화면(bounding box) 안의 화장실 조회
+     * - 영역과 겹치는 격자만 훑은 뒤 정확한 좌표/성별로 한 번 더 거름
+     * - limit을 넘으면 화면 중심에 가까운 순으로 잘라서 반환
+     */
+    public List<IndexedToilet> findInBounds(double minLat, double maxLat, double minLng, double maxLng,
+                                            Gender gender, int limit) {
+        Snapshot s = this.snapshot;
+        if (s == Snapshot.EMPTY || limit <= 0) return List.of();
+
+        int fromX = Math.max(cellOf(minLng), s.minX), toX = Math.min(cellOf(maxLng), s.maxX);
+        int fromY = Math.max(cellOf(minLat), s.minY), toY = Math.min(cellOf(maxLat), s.maxY);
+
+        double centerLat = (minLat + maxLat) / 2;
+        double centerLng = (minLng + maxLng) / 2;
+        double cos0 = Math.cos(Math.toRadians(centerLat));
+        double[] dist = new double[s.maxCellSize];
+
+        List<Candidate> found = new ArrayList<>();
+        for (int x = fromX; x <= toX; x++) {
+            for (int y = fromY; y <= toY; y++) {
+                int cell = s.cellIndex(x, y);
+                if (cell < 0) continue;
+
+                int from = s.cellStarts[cell], to = s.cellStarts[cell + 1];
+                s.coords.distancesTo(centerLat, centerLng, cos0, from, to, dist);
+
+                for (int i = from; i < to; i++) {
+                    if (s.coords.lat[i] < minLat || s.coords.lat[i] > maxLat) continue;
+                    if (s.coords.lng[i] < minLng || s.coords.lng[i] > maxLng) continue;
+                    IndexedToilet t = s.toilets[i];
+                    if (gender != null && gender != t.getGender()) continue;
+                    found.add(new Candidate(t, dist[i - from]));
+                }
+            }
+        }
+
+        Stream<Candidate> result = found.stream();
+        if (found.size() > limit) {
+            result = result.sorted(Comparator.comparingDouble(Candidate::distance)).limit(limit);
+        }
+        return result.map(Candidate::toilet).toList();
+    }
+
+    /**
+     * 반경(m) 안의 화장실을 거리와 함께 하나씩 넘겨줌 (결과 목록을 만들지 않음)
+     * - 반경을 감싸는 격자만 훑고, gender가 주어지면 해당 성별만
+     */
+    public void forEachWithin(double lat, double lng, double radiusMeters, Gender gender, NearbyVisitor visitor) {
+        Snapshot s = this.snapshot;
+        if (s == Snapshot.EMPTY || radiusMeters <= 0) return;
+
+        double cos0 = Math.cos(Math.toRadians(lat));
+        double dLat = radiusMeters / GeoUtils.METERS_PER_DEGREE;
+        double dLng = radiusMeters / (GeoUtils.METERS_PER_DEGREE * Math.max(cos0, 1e-6));
+
+        int fromX = Math.max(cellOf(lng - dLng), s.minX), toX = Math.min(cellOf(lng + dLng), s.maxX);
+        int fromY = Math.max(cellOf(lat - dLat), s.minY), toY = Math.min(cellOf(lat + dLat), s.maxY);
+        double[] dist = new double[s.maxCellSize];
+
+        for (int x = fromX; x <= toX; x++) {
+            for (int y = fromY; y <= toY; y++) {
+                int cell = s.cellIndex(x, y);
+                if (cell < 0) continue;
+
+                int from = s.cellStarts[cell], to = s.cellStarts[cell + 1];
+                s.coords.distancesTo(lat, lng, cos0, from, to, dist);
+
+                for (int i = from; i < to; i++) {
+                    if (dist[i - from] > radiusMeters) continue;
+                    IndexedToilet t = s.toilets[i];
+                    if (gender != null && gender != t.getGender()) continue;
+                    visitor.visit(t, dist[i - from]);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface NearbyVisitor {
+        void visit(IndexedToilet toilet, double distanceMeters);
+    }
+
+    private double kthDistance(Collection<Candidate> candidates, int k) {
+        return candidates.stream()
+                .mapToDouble(Candidate::distance)
+                .sorted()
+                .skip(k - 1)
+                .findFirst()
+                .orElse(Double.MAX_VALUE);
+    }
+
+    private static int cellOf(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    private static long cellKeyOf(IndexedToilet t) {
+        return cellKey(cellOf(t.getLongitude()), cellOf(t.getLatitude()));
+    }
+
+    private record Candidate(IndexedToilet toilet, double distance) {}
+
+    // 격자 칸 하나에 해당하는 배열 구간 [from, to)
+    @FunctionalInterface
+    private interface CellVisitor {
+        void visit(int from, int to);
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new IndexedToilet[0], new CoordinateStore(0), Map.of(),
+                new long[0], new int[]{0}, 0, 0, 0, 0, 0);
+
+        final IndexedToilet[] toilets;
+        final CoordinateStore coords;
+        final Map<Long, IndexedToilet> byId;
+
+        // 정렬된 칸 번호와 각 칸의 시작 위치 (cellStarts[i + 1]이 i번째 칸의 끝)
+        final long[] cellKeys;
+        final int[] cellStarts;
+        final int maxCellSize;
+        final int minX, maxX, minY, maxY;
+
+        Snapshot(IndexedToilet[] toilets, CoordinateStore coords, Map<Long, IndexedToilet> byId,
+                 long[] cellKeys, int[] cellStarts, int maxCellSize,
+                 int minX, int maxX, int minY, int maxY) {
+            this.toilets = toilets;
+            this.coords = coords;
+            this.byId = byId;
+            this.cellKeys = cellKeys;
+            this.cellStarts = cellStarts;
+            this.maxCellSize = maxCellSize;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minY = minY;
+            this.maxY = maxY;
+        }
+
+        // 칸 번호순으로 정렬된 화장실 목록으로 구축
+        static Snapshot build(List<IndexedToilet> sorted) {
+            int n = sorted.size();
+            IndexedToilet[] toilets = sorted.toArray(new IndexedToilet[0]);
+            CoordinateStore coords = new CoordinateStore(n);
+            Map<Long, IndexedToilet> byId = new HashMap<>();
+
+            long[] keys = new long[n];
+            int[] starts = new int[n + 1];
+            int cells = 0, maxCellSize = 0;
+            int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+            int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+
+            for (int i = 0; i < n; i++) {
+                IndexedToilet t = toilets[i];
+                coords.set(i, t.getLatitude(), t.getLongitude());
+                byId.put(t.getId(), t);
+
+                long key = cellKeyOf(t);
+                if (cells == 0 || keys[cells - 1] != key) {
+                    keys[cells] = key;
+                    starts[cells] = i;
+                    cells++;
+                }
+
+                int x = cellOf(t.getLongitude()), y = cellOf(t.getLatitude());
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+            }
+            starts[cells] = n;
+
+            for (int c = 0; c < cells; c++) {
+                maxCellSize = Math.max(maxCellSize, starts[c + 1] - starts[c]);
+            }
+
+            return new Snapshot(toilets, coords, byId, Arrays.copyOf(keys, cells), Arrays.copyOf(starts, cells + 1),
+                    maxCellSize, minX, maxX, minY, maxY);
+        }
+
+        // 칸 (x, y)의 순번 (화장실이 없는 칸이면 -1)
+        int cellIndex(int x, int y) {
+            int idx = Arrays.binarySearch(cellKeys, cellKey(x, y));
+            return idx >= 0 ? idx : -1;
+        }
+
+        // 중심 격자에서 인덱스 전체를 덮기 위해 필요한 최대 겹 수
+        int maxRingFrom(int cx, int cy) {
+            return Math.max(
+                    Math.max(Math.abs(cx - minX), Math.abs(cx - maxX)),
+                    Math.max(Math.abs(cy - minY), Math.abs(cy - maxY))
+            );
+        }
+
+        // 중심 격자에서 인덱스 범위에 처음 닿는 겹 수 (범위 안이면 0)
+        int minRingFrom(int cx, int cy) {
+            return Math.max(
+                    Math.max(0, Math.max(minX - cx, cx - maxX)),
+                    Math.max(minY - cy, cy - maxY)
+            );
+        }
+
+        // 중심에서 ring만큼 떨어진 테두리 격자 중 인덱스 범위 안의 것만 방문
+        void forEachCellOnRing(int cx, int cy, int ring, CellVisitor visitor) {
+            if (ring == 0) {
+                visit(cx, cy, visitor);
+                return;
+            }
+            int fromX = Math.max(cx - ring, minX), toX = Math.min(cx + ring, maxX);
+            int fromY = Math.max(cy - ring + 1, minY), toY = Math.min(cy + ring - 1, maxY);
+
+            for (int x = fromX; x <= toX; x++) {
+                visit(x, cy - ring, visitor);
+                visit(x, cy + ring, visitor);
+            }
+            for (int y = fromY; y <= toY; y++) {
+                visit(cx - ring, y, visitor);
+                visit(cx + ring, y, visitor);
+            }
+        }
+
+        private void visit(int x, int y, CellVisitor visitor) {
+            int cell = cellIndex(x, y);
+            if (cell >= 0) visitor.visit(cellStarts[cell], cellStarts[cell + 1]);
+        }
+    }
+}
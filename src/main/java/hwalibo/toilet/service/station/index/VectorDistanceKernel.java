@@ -0,0 +1,34 @@
+package hwalibo.toilet.service.station.index;
+
+import hwalibo.toilet.utils.GeoUtils;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * CoordinateStore 거리 계산의 Vector API(jdk.incubator.vector) 구현
+ * - CPU가 지원하는 가장 넓은 레인 수(AVX2 4개, AVX-512 8개)씩 한 번에 계산하고 남는 꼬리는 스칼라로 처리
+ * - 연산 순서를 스칼라 루프와 똑같이 맞춰 결과가 비트 단위로 같음
+ * - 이 클래스는 jdk.incubator.vector 모듈이 있을 때만 로드해야 함 (CoordinateStore.VECTORIZED 확인)
+ */
+final class VectorDistanceKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorDistanceKernel() {}
+
+    static void distancesTo(CoordinateStore store, double lat0, double lng0, double cos0,
+                            int from, int to, double[] out) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector lng = DoubleVector.fromArray(SPECIES, store.lng, i);
+            DoubleVector lat = DoubleVector.fromArray(SPECIES, store.lat, i);
+            DoubleVector cosLat = DoubleVector.fromArray(SPECIES, store.cosLat, i);
+
+            DoubleVector x = lng.sub(lng0).mul(0.5).mul(cosLat.add(cos0));
+            DoubleVector y = lat.sub(lat0);
+            x.mul(x).add(y.mul(y)).sqrt().mul(GeoUtils.METERS_PER_DEGREE).intoArray(out, i - from);
+        }
+        store.distancesToScalar(lat0, lng0, cos0, i, to, out, i - from);
+    }
+}
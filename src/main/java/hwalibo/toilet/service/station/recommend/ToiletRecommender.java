@@ -0,0 +1,75 @@
+package hwalibo.toilet.service.station.recommend;
+
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 주변 화장실 추천 점수 계산기
+ * - 점수 = 거리 가중치 × (1 - 거리/반경) + 별점 가중치 × (별점/5) + 리뷰 수 가중치 × log(1 + 리뷰 수) 정규화
+ * - 공간 인덱스에서 반경 안의 후보를 하나씩 받아 크기 k의 최소 힙에만 유지 (전체 후보 정렬 없음)
+ * - 가중치/반경은 설정값(recommend.*)으로 조정 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class ToiletRecommender {
+
+    // 리뷰 수 점수가 1이 되는 리뷰 개수 (그 이상은 같은 점수)
+    private static final int REVIEW_SATURATION = 50;
+
+    private final ToiletSpatialIndex toiletSpatialIndex;
+
+    @Value("${recommend.weight.distance:0.5}")
+    private double distanceWeight;
+
+    @Value("${recommend.weight.star:0.35}")
+    private double starWeight;
+
+    @Value("${recommend.weight.review:0.15}")
+    private double reviewWeight;
+
+    @Value("${recommend.radius-meters:1500}")
+    private double radiusMeters;
+
+    /**
+     * 점수가 높은 순으로 최대 k개
+     *
+     * @param gender 호출한 사용자의 성별 (null이면 성별 구분 없이)
+     */
+    public List<RecommendedToilet> recommend(double lat, double lng, Gender gender, int k) {
+        PriorityQueue<RecommendedToilet> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(RecommendedToilet::score));
+
+        toiletSpatialIndex.forEachWithin(lat, lng, radiusMeters, gender, (toilet, distance) -> {
+            double score = score(toilet, distance);
+            if (heap.size() < k) {
+                heap.offer(new RecommendedToilet(toilet, distance, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.offer(new RecommendedToilet(toilet, distance, score));
+            }
+        });
+
+        List<RecommendedToilet> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(RecommendedToilet::score).reversed()
+                .thenComparingDouble(RecommendedToilet::distance));
+        return result;
+    }
+
+    private double score(IndexedToilet toilet, double distance) {
+        double distanceScore = 1.0 - Math.min(distance / radiusMeters, 1.0);
+        double starScore = toilet.getStar() / 5.0;
+        double reviewScore = Math.min(Math.log1p(toilet.getNumReview()) / Math.log1p(REVIEW_SATURATION), 1.0);
+
+        return distanceWeight * distanceScore + starWeight * starScore + reviewWeight * reviewScore;
+    }
+
+    public record RecommendedToilet(IndexedToilet toilet, double distance, double score) {}
+}
@@ -0,0 +1,129 @@
+package hwalibo.toilet.service.station.search;
+
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import hwalibo.toilet.utils.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 오타 허용 역 이름 검색용 BK-tree
+ * - 역 이름을 자모 단위로 분해해 편집 거리(Levenshtein)를 계산 ("강냠" ↔ "강남" = 1)
+ * - 편집 거리는 삼각 부등식을 만족하므로, 노드와의 거리 d에 대해 [d - k, d + k] 자식만 내려가면 됨
+ * - 허용 거리는 질의 길이에 따라 0 ~ 2 (짧은 질의는 오타 허용 시 엉뚱한 역이 너무 많이 걸림)
+ */
+@Slf4j
+@Component
+public class StationFuzzyIndex {
+
+    private static final int MAX_DISTANCE = 2;
+
+    private volatile Node root;
+
+    @EventListener
+    public void onCatalogRebuilt(ToiletCatalogRebuiltEvent event) {
+        List<String> names = event.toilets().stream()
+                .map(IndexedToilet::getName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+
+        Node built = null;
+        for (String name : names) {
+            Node node = new Node(name, HangulUtils.toJamo(StationSearchEngine.normalize(name)));
+            if (built == null) built = node;
+            else built.insert(node);
+        }
+
+        this.root = built;
+        log.info("✅ 역 이름 BK-tree 구축 완료. 역 {}개", names.size());
+    }
+
+    /**
+     * 허용 거리 이내의 역 이름 목록 (거리 → 이름 순)
+     */
+    public List<FuzzyMatch> search(String keyword) {
+        Node r = this.root;
+        String query = HangulUtils.toJamo(StationSearchEngine.normalize(keyword));
+        int maxDistance = allowedDistance(query);
+        if (r == null || maxDistance == 0) return List.of();
+
+        List<FuzzyMatch> result = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(r);
+
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int d = levenshtein(query, node.jamo);
+            if (d <= maxDistance) {
+                result.add(new FuzzyMatch(node.name, d));
+            }
+            for (int i = Math.max(1, d - maxDistance); i <= d + maxDistance; i++) {
+                Node child = node.children.get(i);
+                if (child != null) stack.push(child);
+            }
+        }
+
+        result.sort(Comparator.comparingInt(FuzzyMatch::distance).thenComparing(FuzzyMatch::name));
+        return result;
+    }
+
+    // 자모 3개(한 글자) 이하는 오타 허용 안 함, 6개(두 글자) 이하는 1, 그 이상은 2
+    private static int allowedDistance(String jamo) {
+        if (jamo.length() <= 3) return 0;
+        if (jamo.length() <= 6) return 1;
+        return MAX_DISTANCE;
+    }
+
+    // 두 줄만 유지하는 편집 거리
+    private static int levenshtein(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) prev[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+
+    public record FuzzyMatch(String name, int distance) {}
+
+    private static final class Node {
+        final String name;
+        final String jamo;
+        final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String name, String jamo) {
+            this.name = name;
+            this.jamo = jamo;
+        }
+
+        void insert(Node node) {
+            Node current = this;
+            while (true) {
+                int d = levenshtein(node.jamo, current.jamo);
+                if (d == 0) return; // 자모가 같은 이름(공백/대소문자만 다른 경우)은 첫 이름만 보관
+
+                Node child = current.children.get(d);
+                if (child == null) {
+                    current.children.put(d, node);
+                    return;
+                }
+                current = child;
+            }
+        }
+    }
+}
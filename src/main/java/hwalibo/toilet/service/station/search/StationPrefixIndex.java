@@ -0,0 +1,77 @@
+package hwalibo.toilet.service.station.search;
+
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 역 이름 자동완성용 정렬 배열 인덱스
+ * - 중복 없는 역 이름을 사전순으로 정렬해 두고, 이분 탐색으로 접두어 구간을 찾음
+ * - 역 이름 → 해당 역의 화장실 목록을 함께 보관해 DB 조회 없이 응답
+ */
+@Slf4j
+@Component
+public class StationPrefixIndex {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener
+    public void onCatalogRebuilt(ToiletCatalogRebuiltEvent event) {
+        Map<String, List<IndexedToilet>> byName = event.toilets().stream()
+                .collect(Collectors.groupingBy(IndexedToilet::getName));
+
+        // 역 안에서는 호선 → 성별 순으로 고정
+        byName.values().forEach(list -> list.sort(
+                Comparator.comparing(IndexedToilet::getLine, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(t -> String.valueOf(t.getGender()))
+                        .thenComparing(IndexedToilet::getId)));
+
+        String[] names = byName.keySet().toArray(new String[0]);
+        Arrays.sort(names);
+
+        this.snapshot = new Snapshot(names, byName);
+        log.info("✅ 역 이름 접두어 인덱스 구축 완료. 역 {}개", names.length);
+    }
+
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    /**
+     * 접두어로 시작하는 역 이름 목록 (사전순)
+     */
+    public List<String> findByPrefix(String prefix) {
+        Snapshot s = this.snapshot;
+        List<String> result = new ArrayList<>();
+        if (prefix == null || prefix.isEmpty()) return result;
+
+        for (int i = lowerBound(s.names, prefix); i < s.names.length && s.names[i].startsWith(prefix); i++) {
+            result.add(s.names[i]);
+        }
+        return result;
+    }
+
+    public List<IndexedToilet> getToilets(String stationName) {
+        return snapshot.byName.getOrDefault(stationName, List.of());
+    }
+
+    // key 이상인 첫 위치
+    private static int lowerBound(String[] names, String key) {
+        int lo = 0, hi = names.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (names[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private record Snapshot(String[] names, Map<String, List<IndexedToilet>> byName) {
+        static final Snapshot EMPTY = new Snapshot(new String[0], Map.of());
+    }
+}
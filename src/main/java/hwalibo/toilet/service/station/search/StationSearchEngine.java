@@ -0,0 +1,173 @@
+package hwalibo.toilet.service.station.search;
+
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import hwalibo.toilet.utils.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 역 이름 초성/자모 n-gram 검색 엔진
+ * - 역 이름을 자모("강남" → "ㄱㅏㅇㄴㅏㅁ")와 초성("ㄱㄴ")으로 분해해 n-gram 역색인을 만듦
+ * - 색인의 posting 목록은 역 번호를 오름차순으로 담은 int 배열 (박싱 없이 교집합 계산)
+ * - 질의의 n-gram posting을 짧은 것부터 교집합 → 남은 후보만 실제 포함 여부를 확인
+ * - "ㄱㄴ"(초성), "강ㄴ"/"가"(입력 중인 글자), "남"(중간 일치)을 모두 처리
+ */
+@Slf4j
+@Component
+public class StationSearchEngine {
+
+    // 자모는 3-gram, 초성은 2-gram까지 색인 (질의가 짧으면 더 짧은 gram으로 조회)
+    private static final int JAMO_GRAM = 3;
+    private static final int CHOSUNG_GRAM = 2;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener
+    public void onCatalogRebuilt(ToiletCatalogRebuiltEvent event) {
+        String[] names = event.toilets().stream()
+                .map(IndexedToilet::getName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+
+        String[] jamo = new String[names.length];
+        String[] chosung = new String[names.length];
+        Map<String, PostingList> jamoBuild = new HashMap<>();
+        Map<String, PostingList> chosungBuild = new HashMap<>();
+
+        // 역 번호 순서대로 추가하므로 posting 목록은 자연히 오름차순
+        for (int id = 0; id < names.length; id++) {
+            String normalized = normalize(names[id]);
+            jamo[id] = HangulUtils.toJamo(normalized);
+            chosung[id] = HangulUtils.toChosung(normalized);
+            addGrams(jamoBuild, jamo[id], JAMO_GRAM, id);
+            addGrams(chosungBuild, chosung[id], CHOSUNG_GRAM, id);
+        }
+
+        this.snapshot = new Snapshot(names, jamo, chosung, toArrays(jamoBuild), toArrays(chosungBuild));
+        log.info("✅ 역 이름 검색 엔진 구축 완료. 역 {}개, 자모 gram {}개, 초성 gram {}개",
+                names.length, jamoBuild.size(), chosungBuild.size());
+    }
+
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    /**
+     * 키워드가 이름에 포함되는 역 목록
+     * - 키워드가 자음으로만 이루어져 있으면 초성 기준, 아니면 자모 기준으로 비교
+     * - position은 초성/자모 문자열에서 일치가 시작된 위치 (0이면 접두어 일치, 작을수록 앞쪽)
+     */
+    public List<StationMatch> search(String keyword) {
+        Snapshot s = this.snapshot;
+        String q = normalize(keyword);
+        if (q.isEmpty() || s == Snapshot.EMPTY) return List.of();
+
+        boolean chosungOnly = HangulUtils.isChosungOnly(q);
+        String needle = chosungOnly ? q : HangulUtils.toJamo(q);
+        String[] fields = chosungOnly ? s.chosung : s.jamo;
+
+        int[] candidates = chosungOnly
+                ? lookup(s.chosungIndex, needle, CHOSUNG_GRAM)
+                : lookup(s.jamoIndex, needle, JAMO_GRAM);
+
+        List<StationMatch> result = new ArrayList<>(candidates.length);
+        for (int id : candidates) {
+            int position = fields[id].indexOf(needle);
+            if (position >= 0) {
+                result.add(new StationMatch(s.names[id], position));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 질의의 모든 n-gram posting 교집합 (없는 gram이 하나라도 있으면 빈 배열)
+     */
+    private static int[] lookup(Map<String, int[]> index, String needle, int maxGram) {
+        int n = Math.min(maxGram, needle.length());
+
+        List<int[]> postings = new ArrayList<>();
+        for (int i = 0; i + n <= needle.length(); i++) {
+            int[] posting = index.get(needle.substring(i, i + n));
+            if (posting == null) return new int[0];
+            postings.add(posting);
+        }
+
+        // 가장 짧은 posting부터 교집합해서 후보를 빠르게 줄임
+        postings.sort(Comparator.comparingInt(p -> p.length));
+        int[] acc = postings.get(0);
+        for (int i = 1; i < postings.size() && acc.length > 0; i++) {
+            acc = intersect(acc, postings.get(i));
+        }
+        return acc;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return k == out.length ? out : Arrays.copyOf(out, k);
+    }
+
+    private static void addGrams(Map<String, PostingList> index, String field, int maxGram, int id) {
+        for (int n = 1; n <= maxGram; n++) {
+            for (int i = 0; i + n <= field.length(); i++) {
+                index.computeIfAbsent(field.substring(i, i + n), k -> new PostingList()).add(id);
+            }
+        }
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, PostingList> build) {
+        Map<String, int[]> index = new HashMap<>(build.size() * 2);
+        build.forEach((gram, list) -> index.put(gram, list.toArray()));
+        return index;
+    }
+
+    // 공백은 무시하고 영문은 소문자로 통일
+    static String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    public record StationMatch(String name, int position) {}
+
+    // 색인 구축 중에만 쓰는 int 가변 배열 (같은 역 번호가 연속으로 들어오면 한 번만 기록)
+    private static final class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) return;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    private record Snapshot(String[] names, String[] jamo, String[] chosung,
+                            Map<String, int[]> jamoIndex, Map<String, int[]> chosungIndex) {
+        static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new String[0], Map.of(), Map.of());
+    }
+}
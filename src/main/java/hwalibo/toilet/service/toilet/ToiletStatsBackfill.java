@@ -0,0 +1,104 @@
+package hwalibo.toilet.service.toilet;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Tag;
+import hwalibo.toilet.respository.review.ReviewQueryRepository;
+import hwalibo.toilet.respository.review.projection.ToiletStarCountRow;
+import hwalibo.toilet.respository.review.projection.ToiletTagMaskCountRow;
+import hwalibo.toilet.respository.toilet.ToiletRepository;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
+import hwalibo.toilet.utils.TagMaskUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 화장실 리뷰 통계 컬럼 백필
+ * - 컬럼이 추가되기 전부터 있던 화장실(값이 null)만 리뷰를 GROUP BY로 한 번 집계해서 채움
+ *   · 태그 개수: 태그 마스크 값별 개수 집계 후 비트를 펼쳐서 합산
+ *   · 별점 합계/구간별 개수: 별점 값별 개수 집계 (이 값으로 평균/리뷰 수도 다시 계산해 누적 오차 제거)
+ * - 이후로는 리뷰 작성/수정/삭제 시 Toilet의 통계 메서드로 증분 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToiletStatsBackfill {
+
+    // IN 절 하나에 넣을 화장실 수
+    private static final int CHUNK_SIZE = 500;
+
+    private final ToiletRepository toiletRepository;
+    private final ReviewQueryRepository reviewQueryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        backfillTagCounts(toiletRepository.findAllByTagCountsIsNull());
+        backfillStarStats(toiletRepository.findAllByStarHalfSumIsNull());
+    }
+
+    private void backfillTagCounts(List<Toilet> targets) {
+        if (targets.isEmpty()) return;
+
+        for (int from = 0; from < targets.size(); from += CHUNK_SIZE) {
+            Map<Long, Toilet> byId = chunkById(targets, from);
+
+            Map<Long, int[]> counts = byId.keySet().stream()
+                    .collect(Collectors.toMap(Function.identity(), id -> new int[Tag.values().length]));
+            for (ToiletTagMaskCountRow row : reviewQueryRepository.countTagMasksByToiletIdIn(List.copyOf(byId.keySet()))) {
+                int[] tagCounts = counts.get(row.toiletId());
+                for (Tag tag : TagMaskUtils.toTags(row.tagMask())) {
+                    tagCounts[tag.ordinal()] += row.count().intValue();
+                }
+            }
+
+            counts.forEach((id, tagCounts) -> byId.get(id).setTagCounts(tagCounts));
+        }
+        log.info("✅ 화장실 태그 개수 백필 완료. 화장실 {}개", targets.size());
+    }
+
+    private void backfillStarStats(List<Toilet> targets) {
+        if (targets.isEmpty()) return;
+
+        for (int from = 0; from < targets.size(); from += CHUNK_SIZE) {
+            Map<Long, Toilet> byId = chunkById(targets, from);
+
+            Map<Long, long[]> halfSums = new HashMap<>();
+            Map<Long, int[]> buckets = new HashMap<>();
+            byId.keySet().forEach(id -> {
+                halfSums.put(id, new long[1]);
+                buckets.put(id, new int[Toilet.STAR_BUCKETS]);
+            });
+
+            for (ToiletStarCountRow row : reviewQueryRepository.countStarsByToiletIdIn(List.copyOf(byId.keySet()))) {
+                double star = row.star() != null ? row.star() : 0.0;
+                int count = row.count().intValue();
+                halfSums.get(row.toiletId())[0] += (long) Toilet.toHalfStars(star) * count;
+                buckets.get(row.toiletId())[Toilet.starBucketOf(star)] += count;
+            }
+
+            byId.forEach((id, toilet) -> {
+                toilet.resetStarStats(halfSums.get(id)[0], buckets.get(id));
+                // 평균이 다시 계산됐으므로 메모리 인덱스에도 반영 (커밋 후)
+                eventPublisher.publishEvent(ToiletReviewStatsChangedEvent.of(toilet));
+            });
+        }
+        log.info("✅ 화장실 별점 통계 백필 완료. 화장실 {}개", targets.size());
+    }
+
+    private static Map<Long, Toilet> chunkById(List<Toilet> targets, int from) {
+        return targets.subList(from, Math.min(from + CHUNK_SIZE, targets.size())).stream()
+                .collect(Collectors.toMap(Toilet::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,18 @@
+package hwalibo.toilet.service.toilet.event;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+
+/**
+ * 리뷰 작성/삭제로 화장실의 별점 통계가 바뀌었을 때 발행
+ * (메모리에 올려둔 인덱스들이 커밋 이후 통계를 갱신하는 데 사용)
+ */
+public record ToiletReviewStatsChangedEvent(Long toiletId, double star, int numReview) {
+
+    public static ToiletReviewStatsChangedEvent of(Toilet toilet) {
+        return new ToiletReviewStatsChangedEvent(
+                toilet.getId(),
+                toilet.getStar() != null ? toilet.getStar() : 0.0,
+                toilet.getNumReview() != null ? toilet.getNumReview() : 0
+        );
+    }
+}
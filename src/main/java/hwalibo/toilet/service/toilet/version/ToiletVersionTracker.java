@@ -0,0 +1,48 @@
+package hwalibo.toilet.service.toilet.version;
+
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 화장실별 데이터 버전 관리 (조건부 GET의 ETag 생성용)
+ * - 리뷰/이미지/좋아요 변경이 커밋되면 해당 화장실 버전을 올림 (전체 대상 이벤트면 모든 화장실)
+ * - 버전은 메모리에만 있으므로 ETag에 기동 시각(epoch)을 넣어 재시작 후 옛 ETag가 일치하지 않게 함
+ */
+@Component
+public class ToiletVersionTracker {
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long globalVersion;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.toiletId() == null) {
+            globalVersion = sequence.incrementAndGet();
+            return;
+        }
+        versions.put(event.toiletId(), sequence.incrementAndGet());
+    }
+
+    public long version(Long toiletId) {
+        return Math.max(globalVersion, versions.getOrDefault(toiletId, 0L));
+    }
+
+    /**
+     * 강한(strong) ETag 값
+     *
+     * @param gender 응답이 조회자 성별에 따라 달라지는 경우에만 전달 (아니면 null)
+     */
+    public String etag(Long toiletId, Gender gender) {
+        String variant = gender != null ? "-" + gender.name() : "";
+        return "\"" + toiletId + "-" + Long.toString(epoch, 36) + "-" + version(toiletId) + variant + "\"";
+    }
+}
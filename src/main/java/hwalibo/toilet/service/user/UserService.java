@@ -15,13 +15,16 @@ import hwalibo.toilet.exception.user.UserNotFoundException;
 import hwalibo.toilet.respository.review.image.ReviewImageQueryRepository;
 import hwalibo.toilet.respository.review.ReviewRepository;
 import hwalibo.toilet.respository.user.UserRepository;
+import hwalibo.toilet.service.review.event.ReviewChangedEvent;
 import hwalibo.toilet.service.review.googlevision.GoogleVisionValidationService;
+import hwalibo.toilet.service.s3.S3BatchDeleteService;
 import hwalibo.toilet.service.s3.S3UploadService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -37,10 +40,12 @@ import java.util.*;
 public class UserService {
     private final UserRepository userRepository;
     private final S3UploadService s3UploadService;
+    private final S3BatchDeleteService s3BatchDeleteService;
     private final ReviewRepository reviewRepository;
     private final ReviewImageQueryRepository reviewImageQueryRepository;
     private final GoogleVisionValidationService googleVisionValidationService;
     private final UserRankService userRankService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 로그인된 유저 정보 조회
     @Transactional(readOnly = true)
@@ -70,6 +75,8 @@ public class UserService {
             throw new DuplicateUserNameException("이미 존재하는 닉네임입니다.");
         }
         user.updateName(newName);
+        // 리뷰 목록에 작성자 닉네임이 들어가므로 모든 화장실 캐시 무효화
+        eventPublisher.publishEvent(ReviewChangedEvent.allToilets());
         return buildUserResponseWithRate(user);
     }
 
@@ -89,12 +96,15 @@ public class UserService {
             throw new SecurityException("리뷰 수정 권한이 없습니다");
         }
 
+        // S3에서 지울 파일 (커밋 후 DeleteObjects로 한 번에 삭제)
+        List<String> urlsToDelete = new ArrayList<>();
+
         //rejected 이미지는 삭제
         Iterator<ReviewImage> rejectIterator = review.getReviewImages().iterator();
         while (rejectIterator.hasNext()) {
             ReviewImage image = rejectIterator.next();
             if (image.getStatus() == ValidationStatus.REJECTED) {
-                s3UploadService.delete(image.getUrl());
+                urlsToDelete.add(image.getUrl());
                 rejectIterator.remove();
             }
         }
@@ -111,14 +121,14 @@ public class UserService {
                 ReviewImage image = iterator.next();
 
                 if (idsToDelete.contains(image.getId())) {
-                    // a. S3에서 삭제
-                    s3UploadService.delete(image.getUrl());
+                    // a. S3 삭제 대상에 추가 (변형본 포함)
+                    urlsToDelete.addAll(image.getAllUrls());
 
                     // b. '수정 가능한' 리스트에서 삭제 (정상 동작)
                     // 'orphanRemoval=true'가 100% 인지하고 DB에 'DELETE'를 예약
                     iterator.remove();
 
-                    log.info("S3 삭제 및 컬렉션에서 제거 완료:{}", image.getUrl());
+                    log.info("컬렉션에서 제거 완료 (S3는 커밋 후 삭제):{}", image.getUrl());
                 }
             }
         }
@@ -156,6 +166,18 @@ public class UserService {
             }
         }
 
+        eventPublisher.publishEvent(ReviewChangedEvent.of(review.getToilet().getId()));
+
+        if (!urlsToDelete.isEmpty()) {
+            // DB 삭제가 커밋된 뒤에만 S3 파일 정리 (롤백되면 파일 유지)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    s3BatchDeleteService.deleteAllAsync(urlsToDelete);
+                }
+            });
+        }
+
         if (!contexts.isEmpty()) {
             //이미지 비동기 검수
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -29,4 +29,24 @@ public final class CursorUtils {
             throw new IllegalArgumentException("Malformed nextCursor", e);
         }
     }
+
+    // 별점순 정렬용 커서: star|id → URL-safe Base64
+    public static String encodeStar(Double star, Long id) {
+        String raw = star + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static record StarCursor(Double star, Long id) {}
+
+    public static StarCursor decodeStar(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 2) throw new IllegalArgumentException("invalid cursor format");
+            return new StarCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Malformed nextCursor", e);
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package hwalibo.toilet.utils;
+
+public final class GeoUtils {
+
+    // 지구 반지름 (m) - ToiletQueryRepository의 6371e3과 동일
+    public static final double EARTH_RADIUS_METERS = 6371e3;
+
+    // 위도 1도당 거리 (m)
+    public static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+
+    private GeoUtils() {}
+
+    /**
+     * 경도 → 웹 메르카토르 타일 x 좌표 (zoom 레벨 기준)
+     */
+    public static int tileX(double lng, int zoom) {
+        int n = 1 << zoom;
+        int x = (int) Math.floor((lng + 180.0) / 360.0 * n);
+        return Math.max(0, Math.min(n - 1, x));
+    }
+
+    /**
+     * 위도 → 웹 메르카토르 타일 y 좌표 (zoom 레벨 기준)
+     */
+    public static int tileY(double lat, int zoom) {
+        int n = 1 << zoom;
+        double latRad = Math.toRadians(lat);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n);
+        return Math.max(0, Math.min(n - 1, y));
+    }
+}
@@ -0,0 +1,87 @@
+package hwalibo.toilet.utils;
+
+import java.util.Map;
+
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00; // '가'
+    private static final char SYLLABLE_END = 0xD7A3;   // '힣'
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ"; // 0번은 받침 없음
+
+    // 겹받침/이중모음은 키보드로 입력하는 순서대로 풀어서 비교 (ㄺ → ㄹㄱ, ㅘ → ㅗㅏ)
+    private static final Map<Character, String> COMPOUND = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulUtils() {}
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    // 호환용 자음(ㄱ~ㅎ)인지
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 문자열이 전부 자음으로만 이루어졌는지 (초성 검색 여부 판단)
+     */
+    public static boolean isChosungOnly(String s) {
+        if (s == null || s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (!isConsonant(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 초성만 추출 ("강남" → "ㄱㄴ"), 한글 음절이 아닌 문자는 그대로 둠
+     */
+    public static String toChosung(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            sb.append(isSyllable(c) ? CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)) : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자모 단위로 분해 ("강남" → "ㄱㅏㅇㄴㅏㅁ")
+     * 겹받침/이중모음은 입력 순서대로 풀어서, 입력 중인 글자("강ㄴ", "가")도 부분 일치하도록 함
+     */
+    public static String toJamo(String s) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_BEGIN;
+                appendJamo(sb, CHO.charAt(code / (JUNG_COUNT * JONG_COUNT)));
+                appendJamo(sb, JUNG.charAt((code % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT));
+                int jong = code % JONG_COUNT;
+                if (jong != 0) appendJamo(sb, JONG.charAt(jong));
+            } else {
+                appendJamo(sb, Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        String split = COMPOUND.get(jamo);
+        if (split != null) sb.append(split);
+        else sb.append(jamo);
+    }
+}
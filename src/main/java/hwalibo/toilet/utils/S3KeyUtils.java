@@ -39,6 +39,18 @@ public final class S3KeyUtils {
         return s.startsWith("/")?s.substring(1):s;
     }
 
+    /**
+     * 원본 URL(또는 키)에서 변형본 URL(또는 키)을 만듦
+     * 예) .../reviews/abc.png + ("thumb", "jpg") → .../reviews/abc_thumb.jpg
+     */
+    public static String toVariant(String urlOrKey, String suffix, String ext){
+        if(urlOrKey==null||urlOrKey.isBlank()) return urlOrKey;
+        int slash=urlOrKey.lastIndexOf('/');
+        int dot=urlOrKey.lastIndexOf('.');
+        String base=(dot>slash)?urlOrKey.substring(0,dot):urlOrKey;
+        return base+"_"+suffix+"."+ext;
+    }
+
     public static String extractFileName(String urlOrKey){
         //헤더가 없음
         if(urlOrKey==null||urlOrKey.isBlank()){
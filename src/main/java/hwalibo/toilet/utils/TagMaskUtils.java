@@ -0,0 +1,44 @@
+package hwalibo.toilet.utils;
+
+import hwalibo.toilet.domain.type.Tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰 태그 ↔ 비트마스크 변환
+ * - Tag.ordinal() 번째 비트를 켜서 int 하나에 태그 10개를 담음
+ * - 저장된 값이 선언 순서에 의존하므로 Tag에 새 값은 항상 맨 뒤에 추가해야 함
+ */
+public final class TagMaskUtils {
+
+    private TagMaskUtils() {}
+
+    public static int toMask(Collection<Tag> tags) {
+        int mask = 0;
+        if (tags == null) return mask;
+        for (Tag tag : tags) {
+            if (tag != null) mask |= bitOf(tag);
+        }
+        return mask;
+    }
+
+    // 선언 순서대로 켜진 태그 목록 (null이면 빈 목록)
+    public static List<Tag> toTags(Integer mask) {
+        List<Tag> tags = new ArrayList<>();
+        if (mask == null || mask == 0) return tags;
+        for (Tag tag : Tag.values()) {
+            if ((mask & bitOf(tag)) != 0) tags.add(tag);
+        }
+        return tags;
+    }
+
+    public static List<String> toTagNames(Integer mask) {
+        return toTags(mask).stream().map(Enum::name).toList();
+    }
+
+    public static int bitOf(Tag tag) {
+        return 1 << tag.ordinal();
+    }
+}
@@ -0,0 +1,165 @@
+package hwalibo.toilet.domain.toilet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * 화장실 별점 통계 증분 갱신 (0.5점 단위 정수 합계 + 1 ~ 5점 구간별 개수)
+ */
+class ToiletStarStatsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.0, 0", "0.5, 0", "1.0, 0",
+            "1.5, 1", "2.0, 1",
+            "2.5, 2", "3.0, 2",
+            "3.5, 3", "4.0, 3",
+            "4.5, 4", "5.0, 4"
+    })
+    void halfStarsRoundUpIntoBuckets(double star, int bucket) {
+        assertThat(Toilet.starBucketOf(star)).isEqualTo(bucket);
+    }
+
+    @Test
+    void halfStarsAreExactIntegers() {
+        assertThat(Toilet.toHalfStars(0.5)).isEqualTo(1);
+        assertThat(Toilet.toHalfStars(3.5)).isEqualTo(7);
+        assertThat(Toilet.toHalfStars(5.0)).isEqualTo(10);
+    }
+
+    @Test
+    void addReviews() {
+        Toilet toilet = emptyStats();
+
+        toilet.updateReviewStats(4.5);
+        toilet.updateReviewStats(3.0);
+        toilet.updateReviewStats(0.5);
+
+        assertThat(toilet.getNumReview()).isEqualTo(3);
+        assertThat(toilet.getStarHalfSum()).isEqualTo(16L);
+        assertThat(toilet.getStar()).isEqualTo(16 / 2.0 / 3);
+        assertThat(toilet.getStarDistribution())
+                .containsExactly(entry(1, 1), entry(2, 0), entry(3, 1), entry(4, 0), entry(5, 1));
+    }
+
+    @Test
+    void changeReviewStarMovesBucket() {
+        Toilet toilet = emptyStats();
+        toilet.updateReviewStats(3.0);
+        toilet.updateReviewStats(5.0);
+
+        toilet.changeReviewStar(3.0, 3.5);
+
+        assertThat(toilet.getNumReview()).isEqualTo(2);
+        assertThat(toilet.getStarHalfSum()).isEqualTo(17L);
+        assertThat(toilet.getStar()).isEqualTo(4.25);
+        assertThat(toilet.getStarDistribution())
+                .containsExactly(entry(1, 0), entry(2, 0), entry(3, 0), entry(4, 1), entry(5, 1));
+    }
+
+    @Test
+    void changeToSameStarKeepsStats() {
+        Toilet toilet = emptyStats();
+        toilet.updateReviewStats(2.5);
+        int[] before = toilet.getStarBuckets();
+
+        toilet.changeReviewStar(2.5, 2.5);
+
+        assertThat(toilet.getStarBuckets()).isSameAs(before);
+        assertThat(toilet.getStarHalfSum()).isEqualTo(5L);
+    }
+
+    @Test
+    void removeDownToZero() {
+        Toilet toilet = emptyStats();
+        toilet.updateReviewStats(1.5);
+        toilet.updateReviewStats(4.0);
+
+        toilet.removeReviewStats(4.0);
+        assertThat(toilet.getNumReview()).isEqualTo(1);
+        assertThat(toilet.getStar()).isEqualTo(1.5);
+
+        toilet.removeReviewStats(1.5);
+        assertThat(toilet.getNumReview()).isZero();
+        assertThat(toilet.getStar()).isEqualTo(0.0);
+        assertThat(toilet.getStarHalfSum()).isZero();
+        assertThat(toilet.getStarBuckets()).containsOnly(0);
+
+        // 이미 0인 상태에서 한 번 더 빠져도 음수가 되지 않음
+        toilet.removeReviewStats(1.5);
+        assertThat(toilet.getNumReview()).isZero();
+        assertThat(toilet.getStarHalfSum()).isZero();
+        assertThat(toilet.getStarBuckets()).containsOnly(0);
+    }
+
+    @Test
+    void randomSequenceMatchesRecount() {
+        Random random = new Random(17);
+        Toilet toilet = emptyStats();
+        List<Double> stars = new ArrayList<>();
+
+        for (int step = 0; step < 2_000; step++) {
+            int op = stars.isEmpty() ? 0 : random.nextInt(3);
+            if (op == 0) {
+                double star = randomStar(random);
+                stars.add(star);
+                toilet.updateReviewStats(star);
+            } else if (op == 1) {
+                double removed = stars.remove(random.nextInt(stars.size()));
+                toilet.removeReviewStats(removed);
+            } else {
+                int i = random.nextInt(stars.size());
+                double newStar = randomStar(random);
+                toilet.changeReviewStar(stars.get(i), newStar);
+                stars.set(i, newStar);
+            }
+
+            assertRecounted(toilet, stars);
+        }
+    }
+
+    @Test
+    void legacyAverageRemovesDownToZero() {
+        // 집계 컬럼이 아직 null인 화장실은 기존 평균 계산식으로 동작
+        Toilet toilet = Toilet.builder().star(4.0).numReview(1).build();
+
+        toilet.removeReviewStats(4.0);
+
+        assertThat(toilet.getNumReview()).isZero();
+        assertThat(toilet.getStar()).isEqualTo(0.0);
+        assertThat(toilet.getStarHalfSum()).isNull();
+    }
+
+    private static void assertRecounted(Toilet toilet, List<Double> stars) {
+        long halfSum = stars.stream().mapToLong(Toilet::toHalfStars).sum();
+        int[] buckets = new int[Toilet.STAR_BUCKETS];
+        stars.forEach(star -> buckets[Toilet.starBucketOf(star)]++);
+
+        assertThat(toilet.getNumReview()).isEqualTo(stars.size());
+        assertThat(toilet.getStarHalfSum()).isEqualTo(halfSum);
+        assertThat(toilet.getStarBuckets()).containsExactly(buckets);
+        assertThat(toilet.getStar()).isEqualTo(stars.isEmpty() ? 0.0 : halfSum / 2.0 / stars.size());
+
+        Map<Integer, Integer> distribution = toilet.getStarDistribution();
+        assertThat(distribution.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(stars.size());
+    }
+
+    private static double randomStar(Random random) {
+        return (1 + random.nextInt(10)) * 0.5;
+    }
+
+    private static Toilet emptyStats() {
+        Toilet toilet = Toilet.builder().star(0.0).numReview(0).build();
+        toilet.resetStarStats(0L, new int[Toilet.STAR_BUCKETS]);
+        return toilet;
+    }
+}
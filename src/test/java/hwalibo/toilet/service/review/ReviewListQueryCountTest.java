@@ -0,0 +1,168 @@
+package hwalibo.toilet.service.review;
+
+import hwalibo.toilet.config.jpa.JpaConfig;
+import hwalibo.toilet.config.jpa.QueryBudget;
+import hwalibo.toilet.config.jpa.QueryCountInspector;
+import hwalibo.toilet.controller.review.ReviewGetController;
+import hwalibo.toilet.domain.review.Review;
+import hwalibo.toilet.domain.review.ReviewImage;
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.domain.type.Role;
+import hwalibo.toilet.domain.type.SortType;
+import hwalibo.toilet.domain.type.Tag;
+import hwalibo.toilet.domain.type.ValidationStatus;
+import hwalibo.toilet.domain.user.User;
+import hwalibo.toilet.dto.review.response.ReviewListResponse;
+import hwalibo.toilet.service.review.cache.ReviewListCache;
+import hwalibo.toilet.service.station.index.ToiletSpatialIndex;
+import hwalibo.toilet.utils.TagMaskUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 리뷰 목록 2단계 조회의 SQL 수가 페이지 크기와 무관하게 일정하고 @QueryBudget 이하인지 확인
+ * - 메모리 인덱스는 비워 두어 화장실 조회까지 DB로 가는 최악의 경우(캐시 미스)를 잼
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, ReviewGetService.class, ReviewListCache.class})
+class ReviewListQueryCountTest {
+
+    private static final int REVIEW_COUNT = 120;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReviewGetService reviewGetService;
+
+    @MockBean
+    private ToiletSpatialIndex toiletSpatialIndex;
+
+    private Toilet toilet;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        given(toiletSpatialIndex.findById(any())).willReturn(Optional.empty());
+
+        toilet = em.persist(Toilet.builder()
+                .name("테스트역 화장실")
+                .line(2)
+                .gender(Gender.F)
+                .latitude(37.5)
+                .longitude(127.0)
+                .numGate(1)
+                .numReview(0)
+                .star(0.0)
+                .build());
+        User author = em.persist(user("naver_author", Gender.F));
+        viewer = em.persist(user("naver_viewer", Gender.F));
+
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            Review review = em.persist(Review.builder()
+                    .toilet(toilet)
+                    .user(author)
+                    .description("리뷰 " + i)
+                    .star(1.0 + (i % 9) * 0.5)
+                    .good(0)
+                    .isDis(i % 2 == 0)
+                    .tagMask(TagMaskUtils.toMask(List.of(Tag.TOILET_CLEAN)))
+                    .build());
+            for (int order = 0; order < 2; order++) {
+                em.persist(ReviewImage.builder()
+                        .review(review)
+                        .url("https://bucket.s3.ap-northeast-2.amazonaws.com/reviews/" + i + "_" + order + ".jpg")
+                        .sortOrder(order)
+                        .status(ValidationStatus.APPROVED)
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortType.class)
+    void firstPageQueryCountIsConstant(SortType sortType) {
+        int small = countQueries(() -> reviewGetService.getReviewList(viewer, toilet.getId(), sortType, null, null, 1));
+        int large = countQueries(() -> reviewGetService.getReviewList(viewer, toilet.getId(), sortType, null, null, 50));
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(budget());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortType.class)
+    void nextPageQueryCountIsConstant(SortType sortType) {
+        String cursor = reviewGetService.getReviewList(viewer, toilet.getId(), sortType, null, null, 1).getNextCursor();
+        assertThat(cursor).isNotNull();
+        em.clear();
+
+        int small = countQueries(() -> reviewGetService.getReviewList(viewer, toilet.getId(), sortType, null, cursor, 1));
+        int large = countQueries(() -> reviewGetService.getReviewList(viewer, toilet.getId(), sortType, null, cursor, 50));
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(budget());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SortType.class)
+    void tagFilteredQueryCountIsConstant(SortType sortType) {
+        List<Tag> tags = List.of(Tag.TOILET_CLEAN);
+        int small = countQueries(() -> reviewGetService.getReviewList(viewer, toilet.getId(), sortType, tags, null, 1));
+        int large = countQueries(() -> reviewGetService.getReviewList(viewer, toilet.getId(), sortType, tags, null, 50));
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(budget());
+    }
+
+    private int countQueries(Supplier<ReviewListResponse> call) {
+        // 앞선 조회가 영속성 컨텍스트에 남아 SQL이 생략되지 않도록 비움
+        em.clear();
+        QueryCountInspector.start();
+        ReviewListResponse response;
+        int count;
+        try {
+            response = call.get();
+        } finally {
+            count = QueryCountInspector.stop();
+        }
+        assertThat(response.getReviews()).isNotEmpty();
+        return count;
+    }
+
+    private static int budget() {
+        return Arrays.stream(ReviewGetController.class.getDeclaredMethods())
+                .filter(method -> method.getName().equals("getReviewList"))
+                .findFirst()
+                .map(method -> method.getAnnotation(QueryBudget.class).value())
+                .orElseThrow();
+    }
+
+    private static User user(String username, Gender gender) {
+        return User.builder()
+                .username(username)
+                .name(username)
+                .gender(gender)
+                .role(Role.ROLE_USER)
+                .build();
+    }
+}
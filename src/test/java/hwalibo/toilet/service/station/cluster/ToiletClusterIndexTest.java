@@ -0,0 +1,82 @@
+package hwalibo.toilet.service.station.cluster;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Gender;
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
+import hwalibo.toilet.utils.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타일 version이 캐시 키로 쓸 수 있게 재구축/재시작 전후에도 겹치지 않는지 확인
+ */
+class ToiletClusterIndexTest {
+
+    private static final int ZOOM = 12;
+    private static final double LAT = 37.5657;
+    private static final double LNG = 126.9769;
+
+    @Test
+    void versionGrowsOnReviewDelta() {
+        ToiletClusterIndex index = new ToiletClusterIndex();
+        index.onCatalogRebuilt(catalog(4.0, 2));
+        TileCluster before = tile(index);
+
+        index.onReviewStatsChanged(new ToiletReviewStatsChangedEvent(1L, 3.0, 3));
+        TileCluster after = tile(index);
+
+        assertThat(after.numReview()).isEqualTo(3);
+        assertThat(after.version()).isGreaterThan(before.version());
+    }
+
+    @Test
+    void rebuildNeverReusesVersion() {
+        ToiletClusterIndex index = new ToiletClusterIndex();
+        index.onCatalogRebuilt(catalog(4.0, 2));
+        TileCluster before = tile(index);
+
+        // 재구축으로 집계가 처음부터 다시 쌓여도 이전 version을 다시 쓰지 않음
+        index.onCatalogRebuilt(catalog(1.0, 5));
+        TileCluster after = tile(index);
+
+        assertThat(after.star()).isNotEqualTo(before.star());
+        assertThat(after.version()).isGreaterThan(before.version());
+    }
+
+    @Test
+    void restartStartsAboveEarlierVersions() throws InterruptedException {
+        ToiletClusterIndex first = new ToiletClusterIndex();
+        first.onCatalogRebuilt(catalog(4.0, 2));
+        long firstVersion = tile(first).version();
+
+        Thread.sleep(2);
+        // 재시작 = 새 인스턴스 (메모리 상태 없음)
+        ToiletClusterIndex restarted = new ToiletClusterIndex();
+        restarted.onCatalogRebuilt(catalog(1.0, 5));
+
+        assertThat(tile(restarted).version()).isGreaterThan(firstVersion);
+    }
+
+    private static TileCluster tile(ToiletClusterIndex index) {
+        return index.getTile(ZOOM, GeoUtils.tileX(LNG, ZOOM), GeoUtils.tileY(LAT, ZOOM));
+    }
+
+    private static ToiletCatalogRebuiltEvent catalog(double star, int numReview) {
+        return new ToiletCatalogRebuiltEvent(List.of(IndexedToilet.from(Toilet.builder()
+                .id(1L)
+                .name("시청")
+                .line(1)
+                .gender(Gender.F)
+                .latitude(LAT)
+                .longitude(LNG)
+                .numGate(1)
+                .star(star)
+                .numReview(numReview)
+                .build())));
+    }
+}
@@ -0,0 +1,73 @@
+package hwalibo.toilet.service.station.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * Vector API 커널과 스칼라 루프가 같은 거리를 내는지 확인
+ * - 레인 수로 나누어떨어지지 않는 구간(꼬리)과 0이 아닌 시작 위치를 모두 포함
+ */
+class CoordinateStoreTest {
+
+    private static final int SIZE = 70;
+
+    @Test
+    void vectorKernelIsEnabledWithIncubatorModule() {
+        // test 태스크는 --add-modules jdk.incubator.vector로 실행
+        assertThat(CoordinateStore.VECTORIZED).isTrue();
+    }
+
+    @Test
+    void vectorKernelMatchesScalar() {
+        CoordinateStore store = randomStore();
+        double lat0 = 37.5665;
+        double lng0 = 126.9780;
+        double cos0 = Math.cos(Math.toRadians(lat0));
+
+        for (int from = 0; from < 9; from++) {
+            for (int to = from; to <= SIZE; to++) {
+                double[] expected = new double[SIZE];
+                double[] actual = new double[SIZE];
+                store.distancesToScalar(lat0, lng0, cos0, from, to, expected, 0);
+                VectorDistanceKernel.distancesTo(store, lat0, lng0, cos0, from, to, actual);
+
+                assertThat(actual).as("[%d, %d)", from, to).containsExactly(expected);
+            }
+        }
+    }
+
+    @Test
+    void distanceIsCloseToHaversine() {
+        CoordinateStore store = new CoordinateStore(1);
+        // 시청역 → 강남역 (약 8.9km)
+        store.set(0, 37.4979, 127.0276);
+        double lat0 = 37.5657;
+        double lng0 = 126.9769;
+        double[] out = new double[1];
+        store.distancesTo(lat0, lng0, Math.cos(Math.toRadians(lat0)), 0, 1, out);
+
+        assertThat(out[0]).isCloseTo(haversine(lat0, lng0, 37.4979, 127.0276), withinPercentage(0.1));
+    }
+
+    private static CoordinateStore randomStore() {
+        Random random = new Random(7);
+        CoordinateStore store = new CoordinateStore(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            store.set(i, 37.40 + random.nextDouble() * 0.30, 126.80 + random.nextDouble() * 0.40);
+        }
+        return store;
+    }
+
+    private static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * 6371e3 * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
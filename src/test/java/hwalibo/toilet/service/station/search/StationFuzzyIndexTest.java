@@ -0,0 +1,180 @@
+package hwalibo.toilet.service.station.search;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.service.station.index.IndexedToilet;
+import hwalibo.toilet.service.station.index.ToiletCatalogRebuiltEvent;
+import hwalibo.toilet.utils.HangulUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BK-tree 검색 결과가 전체 역 이름을 편집 거리로 전부 비교한 결과와 같은지 확인
+ * - 실제 카탈로그(data/toilet_preprocessed.csv)의 역 이름으로 트리를 구축
+ * - 질의 길이별 허용 거리(자모 3개 이하 0, 6개 이하 1, 그 이상 2)와 [d - k, d + k] 가지치기가
+ *   전수 비교에서 찾은 이름을 하나도 빠뜨리지 않는지 검사
+ */
+class StationFuzzyIndexTest {
+
+    private static final StationFuzzyIndex index = new StationFuzzyIndex();
+    private static List<String> names;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        names = loadStationNames();
+        List<IndexedToilet> toilets = names.stream()
+                .map(name -> IndexedToilet.from(Toilet.builder()
+                        .name(name)
+                        .line(1)
+                        .latitude(37.5)
+                        .longitude(127.0)
+                        .numGate(1)
+                        .build()))
+                .toList();
+        index.onCatalogRebuilt(new ToiletCatalogRebuiltEvent(toilets));
+    }
+
+    @Test
+    void matchesBruteForceForStationNamesAndTypos() {
+        Random random = new Random(3);
+        Set<String> queries = new LinkedHashSet<>();
+        for (String name : names) {
+            queries.add(name);
+            for (int i = 0; i < name.length(); i++) {
+                // 한 글자 빠짐 / 한 글자 바뀜 / 한 글자 더해짐
+                queries.add(name.substring(0, i) + name.substring(i + 1));
+                queries.add(name.substring(0, i) + randomSyllable(random) + name.substring(i + 1));
+                queries.add(name.substring(0, i) + randomSyllable(random) + name.substring(i));
+            }
+        }
+        for (int i = 0; i < 500; i++) {
+            queries.add(randomWord(random, 1 + random.nextInt(5)));
+        }
+
+        int matched = 0;
+        for (String query : queries) {
+            List<StationFuzzyIndex.FuzzyMatch> expected = bruteForce(query);
+            assertThat(index.search(query)).as(query).containsExactlyElementsOf(expected);
+            if (!expected.isEmpty()) matched++;
+        }
+        // 비교가 빈 결과끼리만 이루어지지 않았는지 확인
+        assertThat(matched).isGreaterThan(names.size());
+    }
+
+    @Test
+    void oneSyllableQueryAllowsNoTypo() {
+        // 자모 3개 이하(한 글자)는 오타를 허용하지 않으므로 퍼지 검색 결과 없음 (접두/자모 검색이 담당)
+        assertThat(HangulUtils.toJamo("강")).hasSize(3);
+        assertThat(index.search("강")).isEmpty();
+    }
+
+    @Test
+    void twoSyllableQueryAllowsOneTypo() {
+        // "강남" = ㄱㅏㅇㄴㅏㅁ (6개) → 허용 거리 1
+        assertThat(names).contains("강남");
+        assertThat(index.search("강냠")).extracting(StationFuzzyIndex.FuzzyMatch::name).contains("강남");
+        // 자모 두 개가 다르면 허용 거리를 넘음
+        assertThat(index.search("겅냠")).extracting(StationFuzzyIndex.FuzzyMatch::name).doesNotContain("강남");
+    }
+
+    @Test
+    void longQueryAllowsTwoTypos() {
+        // 자모 7개 이상 → 허용 거리 2
+        String name = names.stream()
+                .filter(n -> n.chars().allMatch(c -> HangulUtils.isSyllable((char) c)))
+                .filter(n -> HangulUtils.toJamo(n).length() >= 7)
+                .filter(n -> levenshtein(HangulUtils.toJamo(twoJamoTypo(n)), HangulUtils.toJamo(n)) == 2)
+                .findFirst()
+                .orElseThrow();
+        String typo = twoJamoTypo(name);
+
+        assertThat(index.search(typo)).contains(new StationFuzzyIndex.FuzzyMatch(name, 2));
+    }
+
+    // 트리에는 자모가 같은 이름 중 정렬 순서상 첫 이름만 들어가므로 전수 비교도 같은 기준으로 중복 제거
+    private static List<StationFuzzyIndex.FuzzyMatch> bruteForce(String keyword) {
+        String query = HangulUtils.toJamo(StationSearchEngine.normalize(keyword));
+        int maxDistance = query.length() <= 3 ? 0 : query.length() <= 6 ? 1 : 2;
+        if (maxDistance == 0) return List.of();
+
+        Map<String, String> nameByJamo = new LinkedHashMap<>();
+        names.stream()
+                .sorted()
+                .forEach(name -> nameByJamo.putIfAbsent(HangulUtils.toJamo(StationSearchEngine.normalize(name)), name));
+
+        List<StationFuzzyIndex.FuzzyMatch> result = new ArrayList<>();
+        nameByJamo.forEach((jamo, name) -> {
+            int d = levenshtein(query, jamo);
+            if (d <= maxDistance) result.add(new StationFuzzyIndex.FuzzyMatch(name, d));
+        });
+        result.sort(Comparator.comparingInt(StationFuzzyIndex.FuzzyMatch::distance)
+                .thenComparing(StationFuzzyIndex.FuzzyMatch::name));
+        return result;
+    }
+
+    // 전체 행렬을 채우는 교과서식 편집 거리 (인덱스 구현과 독립적으로 계산)
+    private static int levenshtein(String a, String b) {
+        int[][] dp = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) dp[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) dp[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
+            }
+        }
+        return dp[a.length()][b.length()];
+    }
+
+    // 첫 글자의 중성과 마지막 글자의 초성을 바꿔 자모 편집 거리 2인 오타를 만듦
+    private static String twoJamoTypo(String name) {
+        char first = name.charAt(0);
+        char last = name.charAt(name.length() - 1);
+        int firstCode = first - 0xAC00;
+        int lastCode = last - 0xAC00;
+        int vowel = (firstCode / 28) % 21;
+        int initial = lastCode / (21 * 28);
+
+        char newFirst = (char) (first + ((vowel + 1) % 21 - vowel) * 28);
+        char newLast = (char) (last + ((initial + 1) % 19 - initial) * 21 * 28);
+        return newFirst + name.substring(1, name.length() - 1) + newLast;
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) sb.append(randomSyllable(random));
+        return sb.toString();
+    }
+
+    private static char randomSyllable(Random random) {
+        return (char) (0xAC00 + random.nextInt(11172));
+    }
+
+    private static List<String> loadStationNames() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(StationFuzzyIndexTest.class.getResourceAsStream("/data/toilet_preprocessed.csv")),
+                StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .skip(1)
+                    .map(line -> line.split(",")[0].trim())
+                    .filter(name -> !name.isEmpty())
+                    .distinct()
+                    .toList();
+        }
+    }
+}
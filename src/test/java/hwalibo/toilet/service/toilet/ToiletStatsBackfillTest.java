@@ -0,0 +1,150 @@
+package hwalibo.toilet.service.toilet;
+
+import hwalibo.toilet.domain.toilet.Toilet;
+import hwalibo.toilet.domain.type.Tag;
+import hwalibo.toilet.respository.review.ReviewQueryRepository;
+import hwalibo.toilet.respository.review.projection.ToiletStarCountRow;
+import hwalibo.toilet.respository.review.projection.ToiletTagMaskCountRow;
+import hwalibo.toilet.respository.toilet.ToiletRepository;
+import hwalibo.toilet.service.toilet.event.ToiletReviewStatsChangedEvent;
+import hwalibo.toilet.utils.TagMaskUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 백필(GROUP BY 집계)로 채운 통계가 리뷰를 하나씩 증분 반영한 통계와 같은지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class ToiletStatsBackfillTest {
+
+    @Mock
+    private ToiletRepository toiletRepository;
+
+    @Mock
+    private ReviewQueryRepository reviewQueryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ToiletStatsBackfill toiletStatsBackfill;
+
+    @Test
+    void backfillMatchesIncrementalTotals() {
+        Random random = new Random(5);
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            // 화장실 3번은 리뷰 없음
+            long toiletId = 1 + random.nextInt(2);
+            double star = (1 + random.nextInt(10)) * 0.5;
+            List<Tag> tags = Arrays.stream(Tag.values()).filter(tag -> random.nextInt(4) == 0).toList();
+            reviews.add(new Review(toiletId, star, tags));
+        }
+
+        Map<Long, Toilet> incremental = new LinkedHashMap<>();
+        for (long id = 1; id <= 3; id++) {
+            Toilet toilet = toilet(id);
+            toilet.resetStarStats(0L, new int[Toilet.STAR_BUCKETS]);
+            toilet.setTagCounts(new int[Tag.values().length]);
+            incremental.put(id, toilet);
+        }
+        for (Review review : reviews) {
+            Toilet toilet = incremental.get(review.toiletId());
+            toilet.updateReviewStats(review.star());
+            toilet.updateTagCounts(null, review.tags());
+        }
+
+        // 컬럼 추가 전 상태: 집계 값은 null, 평균은 부동소수 누적 오차가 섞인 값
+        List<Toilet> targets = List.of(legacyToilet(1L), legacyToilet(2L), legacyToilet(3L));
+        given(toiletRepository.findAllByTagCountsIsNull()).willReturn(targets);
+        given(toiletRepository.findAllByStarHalfSumIsNull()).willReturn(targets);
+        given(reviewQueryRepository.countTagMasksByToiletIdIn(anyList())).willReturn(tagMaskRows(reviews));
+        given(reviewQueryRepository.countStarsByToiletIdIn(anyList())).willReturn(starRows(reviews));
+
+        toiletStatsBackfill.backfill();
+
+        for (Toilet backfilled : targets) {
+            Toilet expected = incremental.get(backfilled.getId());
+            assertThat(backfilled.getStarHalfSum()).isEqualTo(expected.getStarHalfSum());
+            assertThat(backfilled.getStarBuckets()).containsExactly(expected.getStarBuckets());
+            assertThat(backfilled.getNumReview()).isEqualTo(expected.getNumReview());
+            assertThat(backfilled.getStar()).isEqualTo(expected.getStar());
+            assertThat(backfilled.getTagCounts()).containsExactly(expected.getTagCounts());
+            verify(eventPublisher).publishEvent(ToiletReviewStatsChangedEvent.of(backfilled));
+        }
+        assertThat(targets.get(2).getNumReview()).isZero();
+        assertThat(targets.get(2).getStar()).isEqualTo(0.0);
+    }
+
+    @Test
+    void nothingToBackfill() {
+        given(toiletRepository.findAllByTagCountsIsNull()).willReturn(List.of());
+        given(toiletRepository.findAllByStarHalfSumIsNull()).willReturn(List.of());
+
+        toiletStatsBackfill.backfill();
+
+        verify(reviewQueryRepository, never()).countTagMasksByToiletIdIn(anyList());
+        verify(reviewQueryRepository, never()).countStarsByToiletIdIn(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private static List<ToiletTagMaskCountRow> tagMaskRows(List<Review> reviews) {
+        Map<Long, Map<Integer, Long>> grouped = new LinkedHashMap<>();
+        for (Review review : reviews) {
+            grouped.computeIfAbsent(review.toiletId(), id -> new LinkedHashMap<>())
+                    .merge(TagMaskUtils.toMask(review.tags()), 1L, Long::sum);
+        }
+        List<ToiletTagMaskCountRow> rows = new ArrayList<>();
+        grouped.forEach((id, counts) -> counts.forEach((mask, count) -> rows.add(new ToiletTagMaskCountRow(id, mask, count))));
+        return rows;
+    }
+
+    private static List<ToiletStarCountRow> starRows(List<Review> reviews) {
+        Map<Long, Map<Double, Long>> grouped = new LinkedHashMap<>();
+        for (Review review : reviews) {
+            grouped.computeIfAbsent(review.toiletId(), id -> new LinkedHashMap<>())
+                    .merge(review.star(), 1L, Long::sum);
+        }
+        List<ToiletStarCountRow> rows = new ArrayList<>();
+        grouped.forEach((id, counts) -> counts.forEach((star, count) -> rows.add(new ToiletStarCountRow(id, star, count))));
+        return rows;
+    }
+
+    private static Toilet legacyToilet(Long id) {
+        Toilet toilet = toilet(id);
+        toilet.setStar(3.0000000000000004);
+        toilet.setNumReview(7);
+        return toilet;
+    }
+
+    private static Toilet toilet(Long id) {
+        return Toilet.builder()
+                .id(id)
+                .name("역" + id)
+                .line(1)
+                .latitude(37.5)
+                .longitude(127.0)
+                .numGate(1)
+                .build();
+    }
+
+    private record Review(long toiletId, double star, List<Tag> tags) {}
+}